@@ -2,8 +2,10 @@ package com.mconstantinojr.minhasfinancas;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
+@EnableCaching
 public class MinhasfinancasApplication {
 
 	public static void main(String[] args) {
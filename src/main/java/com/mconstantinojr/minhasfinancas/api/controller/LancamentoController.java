@@ -1,29 +1,54 @@
 package com.mconstantinojr.minhasfinancas.api.controller;
 
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.mconstantinojr.minhasfinancas.api.converter.FormatoResposta;
 import com.mconstantinojr.minhasfinancas.api.dto.AtualizaStatusDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.AtualizaStatusLoteDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.FiltroLancamentoDTO;
 import com.mconstantinojr.minhasfinancas.api.dto.LancamentoDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.ListaLancamentosDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.PaginaDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.ResultadoLoteDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.ResultadoStatusDTO;
+import com.mconstantinojr.minhasfinancas.exception.LoteInvalidoException;
 import com.mconstantinojr.minhasfinancas.exception.RegraDeNegocioException;
 import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
 import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.FormatoExportacao;
 import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
 import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+import com.mconstantinojr.minhasfinancas.security.ClasseEndpoint;
+import com.mconstantinojr.minhasfinancas.security.LimiteRequisicoes;
+import com.mconstantinojr.minhasfinancas.security.TokenFilter;
 import com.mconstantinojr.minhasfinancas.service.LancamentoService;
 import com.mconstantinojr.minhasfinancas.service.UsuarioService;
 
@@ -35,6 +60,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LancamentoController {
 	
+	private static final int LIMITE_PADRAO_PAGINA = 100;
+	
+	private static final String TOKEN_DE_OUTRO_USUARIO = "O token não pertence ao usuário informado.";
+	
 	private final LancamentoService service;
 	private final UsuarioService usuarioService; 
 	/*@Autowired
@@ -49,25 +78,82 @@ public class LancamentoController {
 	}*/
 	
 	@PostMapping
-	public ResponseEntity salvar(@RequestBody LancamentoDTO dto) {
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity salvar(@RequestBody LancamentoDTO dto,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
+		if (outroUsuario(idAutenticado, dto.getUsuario())) {
+			return new ResponseEntity(TOKEN_DE_OUTRO_USUARIO, HttpStatus.FORBIDDEN);
+		}
 		
 		try {
 			Lancamento entidade = converter(dto);
+			// POST sempre cria; alterações passam pelo PUT, que confere o dono do lançamento.
+			entidade.setId(null);
 			entidade = service.salvar(entidade);
-			return new ResponseEntity(entidade, HttpStatus.CREATED);
+			return new ResponseEntity(LancamentoResumo.de(entidade), HttpStatus.CREATED);
+		} catch (RegraDeNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+	
+	@PostMapping("/lote")
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity salvarLote(@RequestBody List<LancamentoDTO> dtos,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
+		if (dtos.stream().anyMatch(dto -> outroUsuario(idAutenticado, dto.getUsuario()))) {
+			return new ResponseEntity(TOKEN_DE_OUTRO_USUARIO, HttpStatus.FORBIDDEN);
+		}
+		
+		Map<Long, Optional<Usuario>> usuarios = new HashMap<>();
+		Map<Integer, String> erros = new TreeMap<>();
+		List<Lancamento> lancamentos = new ArrayList<>(dtos.size());
+		
+		for (int i = 0; i < dtos.size(); i++) {
+			LancamentoDTO dto = dtos.get(i);
+			if (dto.getId() != null) {
+				erros.put(i, "Lançamentos do lote não devem informar o id.");
+				continue;
+			}
+			
+			try {
+				Optional<Usuario> usuario = dto.getUsuario() == null ? Optional.empty() 
+						: usuarios.computeIfAbsent(dto.getUsuario(), this::referenciaDoUsuario);
+				lancamentos.add(converter(dto, usuario.orElseThrow( () -> new RegraDeNegocioException("Usuário não encontrado para o Id informado.") )));
+			} catch (RegraDeNegocioException e) {
+				erros.put(i, e.getMessage());
+			} catch (IllegalArgumentException e) {
+				erros.put(i, "Tipo ou status de lançamento inválido.");
+			}
+		}
+		
+		if (!erros.isEmpty()) {
+			return ResponseEntity.badRequest().body(ResultadoLoteDTO.builder().salvos(0).erros(erros).build());
+		}
+		
+		try {
+			int salvos = service.salvarEmLote(lancamentos);
+			return new ResponseEntity(ResultadoLoteDTO.builder().salvos(salvos).erros(erros).build(), HttpStatus.CREATED);
+		} catch (LoteInvalidoException e) {
+			return ResponseEntity.badRequest().body(ResultadoLoteDTO.builder().salvos(0).erros(e.getErros()).build());
 		} catch (RegraDeNegocioException e) {
 			return ResponseEntity.badRequest().body(e.getMessage());
 		}
 	}
 	
 	@PutMapping("/{id}")
-	public ResponseEntity atualizar(@PathVariable("id") Long id, @RequestBody LancamentoDTO dto) {
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity atualizar(@PathVariable("id") Long id, @RequestBody LancamentoDTO dto,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
 		return service.obterPorId(id).map(entity -> {
+			if (outroUsuario(idAutenticado, dto.getUsuario()) || outroUsuario(idAutenticado, entity.getUsuario().getId())) {
+				return new ResponseEntity(TOKEN_DE_OUTRO_USUARIO, HttpStatus.FORBIDDEN);
+			}
+			
 			try {
 				Lancamento lancamento = converter(dto);
 				lancamento.setId(entity.getId());
 				lancamento = service.salvar(lancamento);
-				return ResponseEntity.ok(lancamento);
+				return ResponseEntity.ok(LancamentoResumo.de(lancamento));
 			} catch (RegraDeNegocioException e) {
 				return ResponseEntity.badRequest().body(e.getMessage());
 			}
@@ -75,16 +161,28 @@ public class LancamentoController {
 	}
 	
 	@DeleteMapping("{id}")
-	public ResponseEntity deletar(@PathVariable("id") Long id) {
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity deletar(@PathVariable("id") Long id,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
 		return service.obterPorId(id).map( entidade -> {
+			if (outroUsuario(idAutenticado, entidade.getUsuario().getId())) {
+				return new ResponseEntity(TOKEN_DE_OUTRO_USUARIO, HttpStatus.FORBIDDEN);
+			}
+			
 			service.deletar(entidade);
 			return new ResponseEntity(HttpStatus.NO_CONTENT);
 		}).orElseGet(() -> new ResponseEntity("Lançamento não encontrado na base de Dados.", HttpStatus.BAD_REQUEST));
 	}
 	
 	@PutMapping("{id}/atualiza-status")
-	public ResponseEntity atualizarStatus(@PathVariable("id") Long id, @RequestBody AtualizaStatusDTO dto) {
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity atualizarStatus(@PathVariable("id") Long id, @RequestBody AtualizaStatusDTO dto,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
 		return service.obterPorId(id).map( entity -> {
+			if (outroUsuario(idAutenticado, entity.getUsuario().getId())) {
+				return new ResponseEntity(TOKEN_DE_OUTRO_USUARIO, HttpStatus.FORBIDDEN);
+			}
+			
 			StatusLancamento statusSelecionado = StatusLancamento.valueOf(dto.getStatus());
 			
 			if (statusSelecionado == null) {
@@ -94,46 +192,174 @@ public class LancamentoController {
 			try {
 				entity.setStatus(statusSelecionado);
 				service.atualizar(entity);
-				return ResponseEntity.ok(entity);
+				return ResponseEntity.ok(LancamentoResumo.de(entity));
 			} catch (RegraDeNegocioException e) {
 				return ResponseEntity.badRequest().body(e.getMessage());
 			}
 		}).orElseGet(() -> new ResponseEntity("Lançamento não encontrado na base de Dados.", HttpStatus.BAD_REQUEST));
 	}
 	
+	@PutMapping("/status")
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity atualizarStatus(@RequestBody AtualizaStatusLoteDTO dto,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
+		if (outroUsuario(idAutenticado, dto.getUsuario())) {
+			return new ResponseEntity(TOKEN_DE_OUTRO_USUARIO, HttpStatus.FORBIDDEN);
+		}
+		
+		if (idAutenticado == null && !usuarioExiste(dto.getUsuario())) {
+			return ResponseEntity.badRequest().body("Usuário não encontrado para o Id informado.");
+		}
+		Long idUsuario = idAutenticado != null ? idAutenticado : dto.getUsuario();
+		
+		try {
+			StatusLancamento status = StatusLancamento.valueOf(String.valueOf(dto.getStatus()));
+			ResultadoStatusDTO resultado = dto.getIds() != null 
+					? service.atualizarStatus(idUsuario, dto.getIds(), status)
+					: service.atualizarStatusDoPeriodo(idUsuario, dto.getAno(), dto.getMes(), status);
+			return ResponseEntity.ok(resultado);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body("Não foi possível atualizar o status dos lançamentos, envie um status válido.");
+		} catch (RegraDeNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+	
 	@GetMapping
+	@LimiteRequisicoes(ClasseEndpoint.PESQUISA)
 	public ResponseEntity buscar(
 			@RequestParam(value = "descricao", required = false) String descricao,
 			@RequestParam(value = "mes", required = false) Integer mes,
 			@RequestParam(value = "ano", required = false) Integer ano,
-			@RequestParam("usuario") Long idUsuario) {
+			@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestParam(value = "limite", required = false) Integer limite,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado,
+			WebRequest request) {
 		
 		Lancamento lancamentoFiltro = new Lancamento();
 		lancamentoFiltro.setDescricao(descricao);
 		lancamentoFiltro.setMes(mes);
 		lancamentoFiltro.setAno(ano);
 		
-		Optional<Usuario> usuario = usuarioService.obterPorId(idUsuario);
-		if (!usuario.isPresent()) {
+		if (idAutenticado == null && !usuarioExiste(idUsuario)) {
 			return ResponseEntity.badRequest().body("Não foi possível realizar a consulta. Usuário não encontrado para o Id informado.");
-		} else {
-			lancamentoFiltro.setUsuario(usuario.get());
+		}
+		lancamentoFiltro.setUsuario(Usuario.builder().id(idAutenticado != null ? idAutenticado : idUsuario).build());
+		
+		FormatoResposta formato = FormatoResposta.negociar(request.getHeader(HttpHeaders.ACCEPT), 
+				FormatoResposta.JSON, FormatoResposta.COLUNAR, FormatoResposta.CBOR);
+		String etag = "lancamentos-" + lancamentoFiltro.getUsuario().getId() + "-" 
+				+ service.obterVersao(lancamentoFiltro.getUsuario().getId()) + "-" + formato.getCodigo();
+		if (request.checkNotModified(etag)) {
+			return null;
 		}
 		
-		List<Lancamento> lancamentos = service.buscar(lancamentoFiltro);
-		return ResponseEntity.ok(lancamentos);
+		if (limite == null && cursor == null) {
+			List<LancamentoResumo> lancamentos = service.buscarResumos(lancamentoFiltro);
+			return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).cacheControl(CacheControl.noCache()).body(new ListaLancamentosDTO(lancamentos));
+		}
+		
+		try {
+			PaginaDTO<LancamentoResumo> pagina = service.buscar(lancamentoFiltro, cursor, limite != null ? limite : LIMITE_PADRAO_PAGINA);
+			return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).cacheControl(CacheControl.noCache()).body(pagina);
+		} catch (RegraDeNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+	
+	@GetMapping("/pesquisa")
+	@LimiteRequisicoes(ClasseEndpoint.PESQUISA)
+	public ResponseEntity pesquisar(
+			@RequestParam(value = "usuario", required = false) Long idUsuario,
+			@RequestParam(value = "descricao", required = false) String descricao,
+			@RequestParam(value = "tipo", required = false) TipoLancamento tipo,
+			@RequestParam(value = "status", required = false) StatusLancamento status,
+			@RequestParam(value = "valorMinimo", required = false) BigDecimal valorMinimo,
+			@RequestParam(value = "valorMaximo", required = false) BigDecimal valorMaximo,
+			@RequestParam(value = "de", required = false) YearMonth de,
+			@RequestParam(value = "ate", required = false) YearMonth ate,
+			@RequestParam(value = "ordenacao", required = false) List<String> ordenacao,
+			@RequestParam(value = "limite", defaultValue = "" + LIMITE_PADRAO_PAGINA) int limite,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
+		
+		if (idAutenticado == null && !usuarioExiste(idUsuario)) {
+			return ResponseEntity.badRequest().body("Não foi possível realizar a consulta. Usuário não encontrado para o Id informado.");
+		}
+		
+		FiltroLancamentoDTO filtro = FiltroLancamentoDTO.builder()
+				.usuario(idAutenticado != null ? idAutenticado : idUsuario)
+				.descricao(descricao)
+				.tipo(tipo)
+				.status(status)
+				.valorMinimo(valorMinimo)
+				.valorMaximo(valorMaximo)
+				.de(de)
+				.ate(ate)
+				.ordenacao(ordenacao)
+				.build();
+		
+		try {
+			return ResponseEntity.ok(new ListaLancamentosDTO(service.pesquisar(filtro, limite)));
+		} catch (RegraDeNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+	
+	@GetMapping("/exportar")
+	@LimiteRequisicoes(ClasseEndpoint.PESQUISA)
+	public ResponseEntity exportar(
+			@RequestParam(value = "usuario", required = false) Long idInformado,
+			@RequestParam(value = "formato", defaultValue = "csv") String formato,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
+		
+		FormatoExportacao formatoExportacao;
+		try {
+			formatoExportacao = FormatoExportacao.valueOf(formato.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body("Formato de exportação inválido.");
+		}
+		
+		if (idAutenticado == null && !usuarioExiste(idInformado)) {
+			return ResponseEntity.badRequest().body("Não foi possível realizar a exportação. Usuário não encontrado para o Id informado.");
+		}
+		Long idUsuario = idAutenticado != null ? idAutenticado : idInformado;
+		
+		StreamingResponseBody corpo = saida -> service.exportar(idUsuario, formatoExportacao, saida);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(formatoExportacao.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=lancamentos." + formatoExportacao.getExtensao())
+				.body(corpo);
 	}
 	
 	private Lancamento converter(LancamentoDTO dto) {
+		Usuario usuario = referenciaDoUsuario(dto.getUsuario()).orElseThrow( () -> new RegraDeNegocioException("Usuário não encontrado para o Id informado.") );
+		return converter(dto, usuario);
+	}
+	
+	private boolean outroUsuario(Long idAutenticado, Long idUsuario) {
+		return idAutenticado != null && idUsuario != null && !idAutenticado.equals(idUsuario);
+	}
+	
+	private boolean usuarioExiste(Long id) {
+		return id != null && usuarioService.obterPorId(id).isPresent();
+	}
+	
+	private Optional<Usuario> referenciaDoUsuario(Long id) {
+		if (!usuarioExiste(id)) {
+			return Optional.empty();
+		}
+		
+		return Optional.of(usuarioService.obterReferencia(id));
+	}
+	
+	Lancamento converter(LancamentoDTO dto, Usuario usuario) {
 		Lancamento lancamento = new Lancamento();
 		lancamento.setId(dto.getId());
 		lancamento.setDescricao(dto.getDescricao());
 		lancamento.setAno(dto.getAno());
 		lancamento.setMes(dto.getMes());
 		lancamento.setValor(dto.getValor());
-		
-		Usuario usuario = usuarioService.obterPorId(dto.getUsuario()).orElseThrow( () -> new RegraDeNegocioException("Usuário não encontrado para o Id informado.") );
-		
 		lancamento.setUsuario(usuario);
 		
 		if (dto.getTipo() != null) {
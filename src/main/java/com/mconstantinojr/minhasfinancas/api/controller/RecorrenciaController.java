@@ -0,0 +1,68 @@
+package com.mconstantinojr.minhasfinancas.api.controller;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.mconstantinojr.minhasfinancas.api.dto.RecorrenciaDTO;
+import com.mconstantinojr.minhasfinancas.exception.RegraDeNegocioException;
+import com.mconstantinojr.minhasfinancas.model.entity.Recorrencia;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.security.ClasseEndpoint;
+import com.mconstantinojr.minhasfinancas.security.LimiteRequisicoes;
+import com.mconstantinojr.minhasfinancas.security.TokenFilter;
+import com.mconstantinojr.minhasfinancas.service.RecorrenciaService;
+import com.mconstantinojr.minhasfinancas.service.UsuarioService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/recorrencias")
+@RequiredArgsConstructor
+public class RecorrenciaController {
+
+	private final RecorrenciaService service;
+	private final UsuarioService usuarioService;
+	
+	@PostMapping
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity salvar(@RequestBody RecorrenciaDTO dto,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado) {
+		if (idAutenticado != null && dto.getUsuario() != null && !idAutenticado.equals(dto.getUsuario())) {
+			return new ResponseEntity("O token não pertence ao usuário informado.", HttpStatus.FORBIDDEN);
+		}
+		
+		try {
+			Recorrencia recorrencia = service.salvar(converter(dto));
+			dto.setId(recorrencia.getId());
+			return new ResponseEntity(dto, HttpStatus.CREATED);
+		} catch (RegraDeNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body("Tipo de lançamento inválido.");
+		}
+	}
+	
+	private Recorrencia converter(RecorrenciaDTO dto) {
+		Usuario usuario = Optional.ofNullable(dto.getUsuario()).flatMap(usuarioService::obterPorId)
+				.orElseThrow( () -> new RegraDeNegocioException("Usuário não encontrado para o Id informado.") );
+		
+		return Recorrencia.builder()
+				.descricao(dto.getDescricao())
+				.valor(dto.getValor())
+				.tipo(dto.getTipo() != null ? TipoLancamento.valueOf(dto.getTipo()) : null)
+				.usuario(usuario)
+				.anoInicio(dto.getAno())
+				.mesInicio(dto.getMes())
+				.parcelas(dto.getParcelas())
+				.build();
+	}
+	
+}
@@ -0,0 +1,49 @@
+package com.mconstantinojr.minhasfinancas.api.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.mconstantinojr.minhasfinancas.security.ClasseEndpoint;
+import com.mconstantinojr.minhasfinancas.security.LimiteRequisicoes;
+import com.mconstantinojr.minhasfinancas.service.SaldoService;
+import com.mconstantinojr.minhasfinancas.service.UsuarioService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Recálculo manual dos saldos a partir dos lançamentos. Só existe com
+ * minhasfinancas.saldo.recalculo-habilitado=true; fora disso as rotas respondem 404.
+ */
+@RestController
+@RequestMapping("/api/saldos")
+@ConditionalOnProperty(name = "minhasfinancas.saldo.recalculo-habilitado", havingValue = "true")
+@RequiredArgsConstructor
+public class SaldoController {
+
+	private final SaldoService service;
+	private final UsuarioService usuarioService;
+	
+	@PostMapping("/recalcular")
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity recalcularTodos() {
+		service.recalcularTodos();
+		return new ResponseEntity(HttpStatus.NO_CONTENT);
+	}
+	
+	@PostMapping("/{idUsuario}/recalcular")
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
+	public ResponseEntity recalcular(@PathVariable("idUsuario") Long idUsuario) {
+		if (!usuarioService.obterPorId(idUsuario).isPresent()) {
+			return new ResponseEntity(HttpStatus.NOT_FOUND);
+		}
+		
+		service.recalcular(idUsuario);
+		return ResponseEntity.ok(service.obterSaldo(idUsuario));
+	}
+	
+}
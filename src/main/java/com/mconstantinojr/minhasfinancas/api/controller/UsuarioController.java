@@ -4,20 +4,32 @@ import java.math.BigDecimal;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.mconstantinojr.minhasfinancas.api.converter.FormatoResposta;
+import com.mconstantinojr.minhasfinancas.api.dto.SaldoAnualDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.UsuarioAutenticadoDTO;
 import com.mconstantinojr.minhasfinancas.api.dto.UsuarioDTO;
 import com.mconstantinojr.minhasfinancas.exception.ErroAutenticacao;
 import com.mconstantinojr.minhasfinancas.exception.RegraDeNegocioException;
 import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.security.ClasseEndpoint;
+import com.mconstantinojr.minhasfinancas.security.LimiteRequisicoes;
+import com.mconstantinojr.minhasfinancas.security.TokenFilter;
 import com.mconstantinojr.minhasfinancas.service.LancamentoService;
+import com.mconstantinojr.minhasfinancas.service.TokenService;
 import com.mconstantinojr.minhasfinancas.service.UsuarioService;
 
 @RestController
@@ -30,16 +42,25 @@ public class UsuarioController {
 	@Autowired
 	private LancamentoService lancamentoService;
 	
+	@Autowired
+	private TokenService tokenService;
+	
 	//public UsuarioController(UsuarioService service) {
 	//	this.service = service;
 	//}
 	
 	@PostMapping("/autenticar")
+	@LimiteRequisicoes(ClasseEndpoint.AUTENTICACAO)
 	public ResponseEntity autenticar(@RequestBody UsuarioDTO dto) {
 		
 		try {
 			Usuario usuarioAutenticado = service.autenticar(dto.getEmail(), dto.getSenha());
-			return ResponseEntity.ok(usuarioAutenticado);
+			return ResponseEntity.ok(UsuarioAutenticadoDTO.builder()
+					.id(usuarioAutenticado.getId())
+					.nome(usuarioAutenticado.getNome())
+					.email(usuarioAutenticado.getEmail())
+					.token(tokenService.gerarToken(usuarioAutenticado))
+					.build());
 		} catch (ErroAutenticacao e) {
 			return ResponseEntity.badRequest().body(e.getMessage());
 		}
@@ -47,6 +68,7 @@ public class UsuarioController {
 	}
 	
 	@PostMapping
+	@LimiteRequisicoes(ClasseEndpoint.ESCRITA)
 	public ResponseEntity salvar(@RequestBody UsuarioDTO dto) {
 		
 		Usuario usuario = Usuario.builder().nome(dto.getNome()).email(dto.getEmail()).senha(dto.getSenha()).build();
@@ -60,15 +82,52 @@ public class UsuarioController {
 	}
 
 	@GetMapping("/{id}/saldo")
-	public ResponseEntity obterSaldo(@PathVariable("id") Long id) {
-		Optional<Usuario> usuario = service.obterPorId(id);
-		
-		if (!usuario.isPresent()) {
+	@LimiteRequisicoes(ClasseEndpoint.SALDO)
+	public ResponseEntity obterSaldo(@PathVariable("id") Long id,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado,
+			WebRequest request) {
+		if (idAutenticado != null) {
+			if (!idAutenticado.equals(id)) {
+				return new ResponseEntity(HttpStatus.FORBIDDEN);
+			}
+		} else if (!service.obterPorId(id).isPresent()) {
 			return new ResponseEntity(HttpStatus.NOT_FOUND);
 		}
 		
+		String etag = "saldo-" + id + "-" + lancamentoService.obterVersao(id) + "-" + formato(request).getCodigo();
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		
 		BigDecimal saldo = lancamentoService.obterSaldoPorUsuario(id);
-		return ResponseEntity.ok(saldo);
+		return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).cacheControl(CacheControl.noCache()).body(saldo);
+	}
+	
+	@GetMapping("/{id}/saldo/mensal")
+	@LimiteRequisicoes(ClasseEndpoint.SALDO)
+	public ResponseEntity obterSaldoMensal(@PathVariable("id") Long id, @RequestParam("ano") Integer ano,
+			@RequestAttribute(value = TokenFilter.ATRIBUTO_USUARIO, required = false) Long idAutenticado,
+			WebRequest request) {
+		if (idAutenticado != null) {
+			if (!idAutenticado.equals(id)) {
+				return new ResponseEntity(HttpStatus.FORBIDDEN);
+			}
+		} else if (!service.obterPorId(id).isPresent()) {
+			return new ResponseEntity(HttpStatus.NOT_FOUND);
+		}
+		
+		String etag = "saldo-mensal-" + id + "-" + ano + "-" + lancamentoService.obterVersao(id) + "-" 
+				+ formato(request).getCodigo();
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		
+		SaldoAnualDTO saldoAnual = lancamentoService.obterSaldoMensal(id, ano);
+		return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).cacheControl(CacheControl.noCache()).body(saldoAnual);
+	}
+	
+	private static FormatoResposta formato(WebRequest request) {
+		return FormatoResposta.negociar(request.getHeader(HttpHeaders.ACCEPT), FormatoResposta.JSON, FormatoResposta.CBOR);
 	}
 
 }
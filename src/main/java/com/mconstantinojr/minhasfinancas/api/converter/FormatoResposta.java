@@ -0,0 +1,60 @@
+package com.mconstantinojr.minhasfinancas.api.converter;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos em que as respostas com ETag podem ser enviadas. O código do formato
+ * entra no ETag, já que cada formato é uma representação diferente do mesmo
+ * recurso e um validador forte não pode ser compartilhado entre elas.
+ */
+public enum FormatoResposta {
+
+	JSON("json", MediaType.APPLICATION_JSON),
+	COLUNAR("colunar", LancamentoColunarHttpMessageConverter.COLUNAR),
+	CBOR("cbor", MediaType.APPLICATION_CBOR);
+	
+	private final String codigo;
+	private final MediaType tipo;
+	
+	FormatoResposta(String codigo, MediaType tipo) {
+		this.codigo = codigo;
+		this.tipo = tipo;
+	}
+	
+	public String getCodigo() {
+		return codigo;
+	}
+	
+	/**
+	 * Escolhe, entre os formatos disponíveis, o que a negociação de conteúdo vai
+	 * usar para o Accept informado. Sem Accept, com curingas ou com um Accept
+	 * inválido vale o primeiro formato disponível.
+	 */
+	public static FormatoResposta negociar(String accept, FormatoResposta... disponiveis) {
+		if (accept == null || accept.isBlank()) {
+			return disponiveis[0];
+		}
+		
+		List<MediaType> aceitos;
+		try {
+			aceitos = MediaType.parseMediaTypes(accept);
+		} catch (InvalidMediaTypeException e) {
+			return disponiveis[0];
+		}
+		aceitos.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+		
+		for (MediaType aceito : aceitos) {
+			for (FormatoResposta formato : disponiveis) {
+				if (aceito.includes(formato.tipo)) {
+					return formato;
+				}
+			}
+		}
+		return disponiveis[0];
+	}
+	
+}
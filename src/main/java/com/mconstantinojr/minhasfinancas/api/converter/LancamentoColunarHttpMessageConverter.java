@@ -0,0 +1,177 @@
+package com.mconstantinojr.minhasfinancas.api.converter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mconstantinojr.minhasfinancas.api.dto.ListaLancamentosDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.PaginaDTO;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+
+/**
+ * Escreve listas e páginas de lançamentos em colunas: cada campo vira um array
+ * paralelo, o usuário comum a todas as linhas aparece uma única vez e tipo e
+ * status são enviados pelo ordinal, com a tabela de códigos no cabeçalho.
+ * 
+ * <pre>
+ * {"quantidade":2,"usuario":1,"proximo":null,
+ *  "codigos":{"tipo":["RECEITA","DESPESA"],"status":["PENDENTE","CANCELADO","EFETIVADO"]},
+ *  "colunas":{"id":[1,2],"descricao":["a","b"],"mes":[1,1],"ano":[2024,2024],"valor":[10.00,5.50],
+ *             "tipo":[0,1],"status":[0,2],"dataCadastro":["2024-01-02","2024-01-03"]}}
+ * </pre>
+ * 
+ * A saída é gerada direto no corpo da resposta, sem montar uma árvore de objetos.
+ * O formato só é usado quando o cliente pede o tipo explicitamente no Accept;
+ * sem Accept ou com curingas a resposta continua em JSON.
+ */
+public class LancamentoColunarHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+	public static final String COLUNAR_VALUE = "application/vnd.minhasfinancas.columnar+json";
+	
+	public static final MediaType COLUNAR = MediaType.parseMediaType(COLUNAR_VALUE);
+	
+	private final JsonFactory jsonFactory;
+	
+	public LancamentoColunarHttpMessageConverter(JsonFactory jsonFactory) {
+		super(COLUNAR);
+		this.jsonFactory = jsonFactory;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return ListaLancamentosDTO.class.isAssignableFrom(clazz) || PaginaDTO.class.isAssignableFrom(clazz);
+	}
+	
+	@Override
+	protected boolean canWrite(MediaType mediaType) {
+		return mediaType != null && !mediaType.isWildcardType() && !mediaType.isWildcardSubtype() 
+				&& COLUNAR.isCompatibleWith(mediaType);
+	}
+	
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+	
+	@Override
+	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected void writeInternal(Object corpo, Type type, HttpOutputMessage outputMessage) throws IOException {
+		List<?> itens = corpo instanceof PaginaDTO<?> pagina ? pagina.getItens() : (List<?>) corpo;
+		
+		for (Object item : itens) {
+			if (!(item instanceof LancamentoResumo)) {
+				throw new HttpMessageNotWritableException("Formato colunar disponível apenas para listas de lançamentos.");
+			}
+		}
+		
+		@SuppressWarnings("unchecked")
+		List<LancamentoResumo> lancamentos = (List<LancamentoResumo>) itens;
+		
+		try (JsonGenerator gerador = jsonFactory.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+			escrever(gerador, lancamentos, corpo instanceof PaginaDTO<?> pagina ? pagina.getProximo() : null);
+		}
+	}
+	
+	public static void escrever(JsonGenerator gerador, List<LancamentoResumo> lancamentos, String proximo) throws IOException {
+		Long usuario = lancamentos.isEmpty() ? null : lancamentos.get(0).usuario();
+		boolean usuarioUnico = lancamentos.stream().allMatch(lancamento -> Objects.equals(lancamento.usuario(), usuario));
+		
+		gerador.writeStartObject();
+		gerador.writeNumberField("quantidade", lancamentos.size());
+		if (usuarioUnico && usuario != null) {
+			gerador.writeNumberField("usuario", usuario);
+		} else {
+			gerador.writeNullField("usuario");
+		}
+		gerador.writeStringField("proximo", proximo);
+		
+		gerador.writeObjectFieldStart("codigos");
+		escreverCodigos(gerador, "tipo", TipoLancamento.values());
+		escreverCodigos(gerador, "status", StatusLancamento.values());
+		gerador.writeEndObject();
+		
+		gerador.writeObjectFieldStart("colunas");
+		escreverNumeros(gerador, "id", lancamentos, LancamentoResumo::id);
+		escreverTextos(gerador, "descricao", lancamentos, LancamentoResumo::descricao);
+		escreverNumeros(gerador, "mes", lancamentos, LancamentoResumo::mes);
+		escreverNumeros(gerador, "ano", lancamentos, LancamentoResumo::ano);
+		escreverNumeros(gerador, "valor", lancamentos, LancamentoResumo::valor);
+		escreverNumeros(gerador, "tipo", lancamentos, lancamento -> ordinal(lancamento.tipo()));
+		escreverNumeros(gerador, "status", lancamentos, lancamento -> ordinal(lancamento.status()));
+		escreverTextos(gerador, "dataCadastro", lancamentos, lancamento -> Objects.toString(lancamento.dataCadastro(), null));
+		if (!usuarioUnico) {
+			escreverNumeros(gerador, "usuario", lancamentos, LancamentoResumo::usuario);
+		}
+		gerador.writeEndObject();
+		
+		gerador.writeEndObject();
+	}
+	
+	private static void escreverCodigos(JsonGenerator gerador, String campo, Enum<?>[] valores) throws IOException {
+		gerador.writeArrayFieldStart(campo);
+		for (Enum<?> valor : valores) {
+			gerador.writeString(valor.name());
+		}
+		gerador.writeEndArray();
+	}
+	
+	private static void escreverNumeros(JsonGenerator gerador, String campo, List<LancamentoResumo> lancamentos, 
+			Function<LancamentoResumo, Number> coluna) throws IOException {
+		gerador.writeArrayFieldStart(campo);
+		for (LancamentoResumo lancamento : lancamentos) {
+			Number valor = coluna.apply(lancamento);
+			if (valor == null) {
+				gerador.writeNull();
+			} else if (valor instanceof BigDecimal decimal) {
+				gerador.writeNumber(decimal);
+			} else {
+				gerador.writeNumber(valor.longValue());
+			}
+		}
+		gerador.writeEndArray();
+	}
+	
+	private static void escreverTextos(JsonGenerator gerador, String campo, List<LancamentoResumo> lancamentos, 
+			Function<LancamentoResumo, String> coluna) throws IOException {
+		gerador.writeArrayFieldStart(campo);
+		for (LancamentoResumo lancamento : lancamentos) {
+			gerador.writeString(coluna.apply(lancamento));
+		}
+		gerador.writeEndArray();
+	}
+	
+	private static Integer ordinal(Enum<?> valor) {
+		return valor != null ? valor.ordinal() : null;
+	}
+
+	@Override
+	public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+		throw new HttpMessageNotReadableException("Formato colunar disponível apenas para respostas.", inputMessage);
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+		throw new HttpMessageNotReadableException("Formato colunar disponível apenas para respostas.", inputMessage);
+	}
+	
+}
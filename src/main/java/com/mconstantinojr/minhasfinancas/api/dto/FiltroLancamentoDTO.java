@@ -0,0 +1,31 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FiltroLancamentoDTO {
+
+	private Long usuario;
+	private String descricao;
+	private TipoLancamento tipo;
+	private StatusLancamento status;
+	private BigDecimal valorMinimo;
+	private BigDecimal valorMaximo;
+	private YearMonth de;
+	private YearMonth ate;
+	private List<String> ordenacao;
+
+}
@@ -0,0 +1,16 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+
+public class ListaLancamentosDTO extends ArrayList<LancamentoResumo> {
+
+	private static final long serialVersionUID = 1L;
+
+	public ListaLancamentosDTO(Collection<LancamentoResumo> lancamentos) {
+		super(lancamentos);
+	}
+
+}
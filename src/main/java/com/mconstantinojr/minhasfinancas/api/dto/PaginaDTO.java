@@ -0,0 +1,19 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaginaDTO<T> {
+
+	private List<T> itens;
+	private String proximo;
+
+}
@@ -0,0 +1,25 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecorrenciaDTO {
+
+	private Long id;
+	private String descricao;
+	private BigDecimal valor;
+	private Long usuario;
+	private String tipo;
+	private Integer ano;
+	private Integer mes;
+	private Integer parcelas;
+	
+}
@@ -0,0 +1,19 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultadoLoteDTO {
+
+	private Integer salvos;
+	private Map<Integer, String> erros;
+	
+}
@@ -0,0 +1,21 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.util.Map;
+
+import com.mconstantinojr.minhasfinancas.model.enums.ResultadoAtualizacaoStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultadoStatusDTO {
+
+	private Integer atualizados;
+	private Map<Long, ResultadoAtualizacaoStatus> resultados;
+
+}
@@ -0,0 +1,36 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.math.BigDecimal;
+
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResumoSaldoDTO {
+
+	@Builder.Default
+	private BigDecimal receitas = BigDecimal.ZERO;
+	
+	@Builder.Default
+	private BigDecimal despesas = BigDecimal.ZERO;
+	
+	@Builder.Default
+	private BigDecimal saldo = BigDecimal.ZERO;
+	
+	public void somar(TipoLancamento tipo, BigDecimal valor) {
+		if (tipo == TipoLancamento.RECEITA) {
+			receitas = receitas.add(valor);
+		} else {
+			despesas = despesas.add(valor);
+		}
+		saldo = receitas.subtract(despesas);
+	}
+	
+}
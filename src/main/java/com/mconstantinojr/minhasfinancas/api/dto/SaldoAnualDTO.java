@@ -0,0 +1,25 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SaldoAnualDTO {
+
+	private Integer ano;
+	
+	@Builder.Default
+	private ResumoSaldoDTO total = new ResumoSaldoDTO();
+	
+	@Builder.Default
+	private List<SaldoMensalDTO> meses = new ArrayList<>();
+	
+}
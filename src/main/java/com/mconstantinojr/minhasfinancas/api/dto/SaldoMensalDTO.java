@@ -0,0 +1,27 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SaldoMensalDTO {
+
+	private Integer mes;
+	
+	@Builder.Default
+	private ResumoSaldoDTO total = new ResumoSaldoDTO();
+	
+	@Builder.Default
+	private Map<StatusLancamento, ResumoSaldoDTO> porStatus = new EnumMap<>(StatusLancamento.class);
+	
+}
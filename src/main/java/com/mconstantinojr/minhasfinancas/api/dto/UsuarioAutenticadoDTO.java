@@ -0,0 +1,19 @@
+package com.mconstantinojr.minhasfinancas.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UsuarioAutenticadoDTO {
+
+	private Long id;
+	private String nome;
+	private String email;
+	private String token;
+
+}
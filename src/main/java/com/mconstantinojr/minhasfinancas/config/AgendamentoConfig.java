@@ -0,0 +1,12 @@
+package com.mconstantinojr.minhasfinancas.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({ ArquivamentoProperties.class, RecorrenciaProperties.class })
+public class AgendamentoConfig {
+
+}
@@ -0,0 +1,26 @@
+package com.mconstantinojr.minhasfinancas.config;
+
+import java.time.Year;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "minhasfinancas.arquivamento")
+public class ArquivamentoProperties {
+
+	private String cron = "0 30 3 * * *";
+	
+	private int anosAbertos = 2;
+	
+	private int tamanhoLote = 1000;
+	
+	/*
+	 * Anos anteriores a este estão encerrados: são movidos pelo arquivamento e
+	 * só são lidos do arquivo quando a consulta pede por eles.
+	 */
+	public int primeiroAnoAberto() {
+		return Year.now().getValue() - anosAbertos + 1;
+	}
+}
@@ -0,0 +1,25 @@
+package com.mconstantinojr.minhasfinancas.config;
+
+import java.time.YearMonth;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "minhasfinancas.recorrencia")
+public class RecorrenciaProperties {
+
+	private String cron = "0 0 2 * * *";
+	
+	private int mesesAntecedencia = 1;
+	
+	private int tamanhoLote = 100;
+	
+	/*
+	 * Última competência que já deve ter seus lançamentos gerados.
+	 */
+	public YearMonth horizonte() {
+		return YearMonth.now().plusMonths(mesesAntecedencia);
+	}
+}
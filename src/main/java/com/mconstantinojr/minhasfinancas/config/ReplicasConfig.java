@@ -0,0 +1,79 @@
+package com.mconstantinojr.minhasfinancas.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(name = "minhasfinancas.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicasProperties.class)
+public class ReplicasConfig {
+
+	@Bean
+	@ConfigurationProperties(prefix = "spring.datasource.hikari")
+	public HikariDataSource primario(DataSourceProperties properties) {
+		HikariDataSource primario = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		primario.setPoolName("primario");
+		return primario;
+	}
+	
+	@Bean
+	public RoteamentoDataSource roteamentoDataSource(HikariDataSource primario, ReplicasProperties properties, 
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		List<DataSource> replicas = new ArrayList<>();
+		
+		for (ReplicasProperties.Replica configuracao : properties.getReplicas()) {
+			HikariDataSource replica = criarReplica(configuracao, replicas.size());
+			meterRegistry.ifAvailable(registro -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registro)));
+			replicas.add(replica);
+		}
+		
+		return new RoteamentoDataSource(primario, replicas, properties.getIntervaloVerificacao());
+	}
+	
+	static HikariDataSource criarReplica(ReplicasProperties.Replica configuracao, int indice) {
+		HikariDataSource replica = new HikariDataSource();
+		replica.setPoolName("replica-" + indice);
+		replica.setJdbcUrl(configuracao.getUrl());
+		replica.setUsername(configuracao.getUsername());
+		replica.setPassword(configuracao.getPassword());
+		replica.setMaximumPoolSize(configuracao.getMaximumPoolSize());
+		replica.setConnectionTimeout(configuracao.getConnectionTimeout().toMillis());
+		replica.setReadOnly(true);
+		replica.setInitializationFailTimeout(-1);
+		return replica;
+	}
+	
+	@Bean
+	@Primary
+	public DataSource dataSource(RoteamentoDataSource roteamentoDataSource) {
+		return new LazyConnectionDataSourceProxy(roteamentoDataSource);
+	}
+	
+	/*
+	 * Com open-in-view a sessão vive a requisição inteira; a conexão precisa ser
+	 * devolvida ao fim de cada transação para que a próxima seja roteada de novo.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer liberarConexaoAoFimDaTransacao() {
+		return propriedades -> propriedades.put("hibernate.connection.handling_mode", 
+				"DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+	}
+}
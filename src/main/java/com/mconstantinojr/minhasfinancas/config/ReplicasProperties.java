@@ -0,0 +1,34 @@
+package com.mconstantinojr.minhasfinancas.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "minhasfinancas.datasource")
+public class ReplicasProperties {
+
+	private List<Replica> replicas = new ArrayList<>();
+	
+	private Duration intervaloVerificacao = Duration.ofSeconds(10);
+	
+	@Data
+	public static class Replica {
+		
+		private String url;
+		private String username;
+		private String password;
+		private int maximumPoolSize = 10;
+		
+		/*
+		 * Réplica sem conexão livre cede a leitura ao primário; esperar os 30s
+		 * padrão do Hikari seguraria a requisição em vez de fazer o fallback.
+		 */
+		private Duration connectionTimeout = Duration.ofMillis(500);
+		
+	}
+}
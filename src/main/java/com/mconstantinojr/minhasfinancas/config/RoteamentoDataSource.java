@@ -0,0 +1,122 @@
+package com.mconstantinojr.minhasfinancas.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Envia as transações somente leitura para as réplicas, em rodízio, e todo o
+ * resto para o primário. Réplicas que falham ao entregar uma conexão ou na
+ * verificação periódica saem do rodízio até a próxima verificação bem
+ * sucedida; sem réplicas disponíveis a leitura vai para o primário.
+ * 
+ * Deve ser usado atrás de um LazyConnectionDataSourceProxy, para que a conexão
+ * só seja obtida depois que a transação já foi marcada como somente leitura.
+ */
+public class RoteamentoDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+	private static final int TIMEOUT_VERIFICACAO_SEGUNDOS = 2;
+	
+	private final DataSource primario;
+	
+	private final List<DataSource> replicas;
+	
+	private final AtomicIntegerArray disponiveis;
+	
+	private final AtomicInteger proxima = new AtomicInteger();
+	
+	private final Duration intervaloVerificacao;
+	
+	private ScheduledExecutorService verificador;
+	
+	public RoteamentoDataSource(DataSource primario, List<DataSource> replicas, Duration intervaloVerificacao) {
+		this.primario = primario;
+		this.replicas = List.copyOf(replicas);
+		this.disponiveis = new AtomicIntegerArray(replicas.size());
+		this.intervaloVerificacao = intervaloVerificacao;
+		for (int i = 0; i < replicas.size(); i++) {
+			disponiveis.set(i, 1);
+		}
+	}
+	
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			int inicio = Math.floorMod(proxima.getAndIncrement(), Math.max(replicas.size(), 1));
+			for (int i = 0; i < replicas.size(); i++) {
+				int indice = (inicio + i) % replicas.size();
+				if (disponiveis.get(indice) == 1) {
+					try {
+						return replicas.get(indice).getConnection();
+					} catch (SQLException e) {
+						disponiveis.set(indice, 0);
+					}
+				}
+			}
+		}
+		
+		return primario.getConnection();
+	}
+
+	/*
+	 * Os pools do Hikari não aceitam credenciais por conexão; as credenciais
+	 * de cada banco ficam na configuração do seu pool.
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		throw new SQLFeatureNotSupportedException("Conexões com credenciais explícitas não são suportadas.");
+	}
+	
+	public boolean isDisponivel(int replica) {
+		return disponiveis.get(replica) == 1;
+	}
+	
+	public void verificarReplicas() {
+		for (int i = 0; i < replicas.size(); i++) {
+			try (Connection conexao = replicas.get(i).getConnection()) {
+				disponiveis.set(i, conexao.isValid(TIMEOUT_VERIFICACAO_SEGUNDOS) ? 1 : 0);
+			} catch (SQLException | RuntimeException e) {
+				disponiveis.set(i, 0);
+			}
+		}
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		verificador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+			Thread thread = new Thread(tarefa, "verificador-replicas");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long intervalo = intervaloVerificacao.toMillis();
+		verificador.scheduleWithFixedDelay(this::verificarReplicas, intervalo, intervalo, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void destroy() {
+		verificador.shutdownNow();
+		for (DataSource replica : replicas) {
+			if (replica instanceof AutoCloseable fechavel) {
+				try {
+					fechavel.close();
+				} catch (Exception e) {
+					// encerramento da aplicação, nada a fazer
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.mconstantinojr.minhasfinancas.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.mconstantinojr.minhasfinancas.api.converter.LancamentoColunarHttpMessageConverter;
+import com.mconstantinojr.minhasfinancas.security.LimiteRequisicoesInterceptor;
+import com.mconstantinojr.minhasfinancas.security.LimitesProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@EnableConfigurationProperties(LimitesProperties.class)
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+	private final LimitesProperties limites;
+	
+	private final ObjectProvider<MeterRegistry> registro;
+	
+	private final ObjectMapper objectMapper;
+	
+	/*
+	 * Mesmo builder do ObjectMapper da aplicação, para que CBOR e JSON serializem os mesmos campos.
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+	
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		if (limites.isHabilitado()) {
+			registry.addInterceptor(new LimiteRequisicoesInterceptor(limites, registro.getIfAvailable(SimpleMeterRegistry::new)))
+				.addPathPatterns("/api/**");
+		}
+	}
+	
+	/*
+	 * Antes do conversor Jackson, que também aceita application/*+json.
+	 */
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.add(0, new LancamentoColunarHttpMessageConverter(objectMapper.getFactory()));
+	}
+	
+}
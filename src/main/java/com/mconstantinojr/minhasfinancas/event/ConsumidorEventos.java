@@ -0,0 +1,13 @@
+package com.mconstantinojr.minhasfinancas.event;
+
+import java.util.List;
+
+/**
+ * Recebe, fora da requisição, os eventos de lançamento já confirmados no banco.
+ * Todo bean que implementa esta interface é registrado na FilaEventos.
+ */
+public interface ConsumidorEventos {
+
+	void processar(List<LancamentoAlterado> eventos);
+	
+}
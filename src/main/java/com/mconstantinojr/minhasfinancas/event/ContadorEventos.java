@@ -0,0 +1,30 @@
+package com.mconstantinojr.minhasfinancas.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.mconstantinojr.minhasfinancas.model.enums.TipoEventoLancamento;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ContadorEventos implements ConsumidorEventos {
+
+	private final MeterRegistry registro;
+
+	@Override
+	public void processar(List<LancamentoAlterado> eventos) {
+		Map<TipoEventoLancamento, Long> porTipo = eventos.stream()
+				.collect(Collectors.groupingBy(LancamentoAlterado::tipo, Collectors.counting()));
+		
+		porTipo.forEach((tipo, quantidade) -> registro.counter("minhasfinancas.lancamentos.eventos", "tipo", tipo.name())
+				.increment(quantidade));
+	}
+	
+}
@@ -0,0 +1,180 @@
+package com.mconstantinojr.minhasfinancas.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Fila em memória, de tamanho fixo, entre as escritas de lançamento e os
+ * consumidores de eventos. O evento só entra na fila depois do commit da
+ * transação que o publicou; transações desfeitas não geram eventos.
+ * 
+ * Com a fila cheia a thread que confirmou a transação espera até a espera
+ * máxima e, persistindo o atraso, o evento é descartado e contado. Uma única
+ * thread entrega os eventos em lotes a cada consumidor; a falha de um
+ * consumidor não impede a entrega aos demais. Eventos ainda na fila ao parar a
+ * aplicação são entregues antes do encerramento, mas não sobrevivem a uma
+ * queda do processo.
+ * 
+ * A fila para depois do servidor web, que termina as requisições em andamento
+ * antes; eventos publicados com a fila parada são entregues na própria thread
+ * que os publicou.
+ */
+@Component
+public class FilaEventos implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(FilaEventos.class);
+	
+	private static final long INTERVALO_ESPERA_MILIS = 100;
+	
+	private static final int FASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+	
+	private final BlockingQueue<LancamentoAlterado> fila;
+	
+	private final List<ConsumidorEventos> consumidores;
+	
+	private final MeterRegistry registro;
+	
+	private final int tamanhoLote;
+	
+	private final Duration esperaMaxima;
+	
+	private final Counter descartados;
+	
+	private final Object entrega = new Object();
+	
+	private volatile boolean executando;
+	
+	private Thread despachante;
+	
+	public FilaEventos(List<ConsumidorEventos> consumidores, MeterRegistry registro,
+			@Value("${minhasfinancas.eventos.capacidade:10000}") int capacidade,
+			@Value("${minhasfinancas.eventos.tamanho-lote:500}") int tamanhoLote,
+			@Value("${minhasfinancas.eventos.espera-maxima:100ms}") Duration esperaMaxima) {
+		this.fila = new ArrayBlockingQueue<>(capacidade);
+		this.consumidores = List.copyOf(consumidores);
+		this.registro = registro;
+		this.tamanhoLote = tamanhoLote;
+		this.esperaMaxima = esperaMaxima;
+		this.descartados = registro.counter("minhasfinancas.eventos.descartados");
+		Gauge.builder("minhasfinancas.eventos.pendentes", fila, BlockingQueue::size).register(registro);
+	}
+	
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void publicar(LancamentoAlterado evento) {
+		if (!executando) {
+			entregarPendentes(evento);
+			return;
+		}
+		
+		try {
+			if (!fila.offer(evento, esperaMaxima.toMillis(), TimeUnit.MILLISECONDS)) {
+				descartados.increment();
+				log.warn("Fila de eventos cheia, evento {} do usuário {} descartado.", evento.tipo(), evento.idUsuario());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			descartados.increment();
+		}
+		
+		if (!executando) {
+			entregarPendentes(null);
+		}
+	}
+	
+	public int getPendentes() {
+		return fila.size();
+	}
+	
+	private void despachar() {
+		List<LancamentoAlterado> lote = new ArrayList<>(tamanhoLote);
+		
+		while (executando || !fila.isEmpty()) {
+			try {
+				LancamentoAlterado primeiro = fila.poll(INTERVALO_ESPERA_MILIS, TimeUnit.MILLISECONDS);
+				if (primeiro == null) {
+					continue;
+				}
+				
+				lote.add(primeiro);
+				fila.drainTo(lote, tamanhoLote - 1);
+				entregar(List.copyOf(lote));
+				lote.clear();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+	
+	private void entregarPendentes(LancamentoAlterado evento) {
+		synchronized (entrega) {
+			List<LancamentoAlterado> lote = new ArrayList<>(fila.size() + 1);
+			fila.drainTo(lote);
+			if (evento != null) {
+				lote.add(evento);
+			}
+			if (!lote.isEmpty()) {
+				entregar(List.copyOf(lote));
+			}
+		}
+	}
+	
+	private void entregar(List<LancamentoAlterado> lote) {
+		synchronized (entrega) {
+			for (ConsumidorEventos consumidor : consumidores) {
+				try {
+					consumidor.processar(lote);
+				} catch (RuntimeException e) {
+					registro.counter("minhasfinancas.eventos.falhas", "consumidor", consumidor.getClass().getSimpleName())
+						.increment(lote.size());
+					log.error("Falha ao entregar {} eventos a {}.", lote.size(), consumidor.getClass().getSimpleName(), e);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+		executando = true;
+		despachante = new Thread(this::despachar, "fila-eventos");
+		despachante.setDaemon(true);
+		despachante.start();
+	}
+
+	@Override
+	public void stop() {
+		executando = false;
+		try {
+			despachante.join(TimeUnit.SECONDS.toMillis(10));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return executando;
+	}
+	
+	@Override
+	public int getPhase() {
+		return FASE;
+	}
+	
+}
@@ -0,0 +1,14 @@
+package com.mconstantinojr.minhasfinancas.event;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.mconstantinojr.minhasfinancas.model.enums.TipoEventoLancamento;
+
+public record LancamentoAlterado(TipoEventoLancamento tipo, Long idUsuario, List<Long> ids, Instant ocorridoEm) {
+
+	public static LancamentoAlterado de(TipoEventoLancamento tipo, Long idUsuario, List<Long> ids) {
+		return new LancamentoAlterado(tipo, idUsuario, List.copyOf(ids), Instant.now());
+	}
+	
+}
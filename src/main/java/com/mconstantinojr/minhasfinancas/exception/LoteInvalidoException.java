@@ -0,0 +1,17 @@
+package com.mconstantinojr.minhasfinancas.exception;
+
+import java.util.Map;
+
+public class LoteInvalidoException extends RegraDeNegocioException {
+
+	private final Map<Integer, String> erros;
+	
+	public LoteInvalidoException(Map<Integer, String> erros) {
+		super("O lote possui lançamentos inválidos.");
+		this.erros = erros;
+	}
+	
+	public Map<Integer, String> getErros() {
+		return erros;
+	}
+}
@@ -0,0 +1,37 @@
+package com.mconstantinojr.minhasfinancas.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mconstantinojr.minhasfinancas.config.ArquivamentoProperties;
+import com.mconstantinojr.minhasfinancas.service.ArquivamentoService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ArquivamentoJob {
+
+	private static final Logger log = LoggerFactory.getLogger(ArquivamentoJob.class);
+	
+	private final ArquivamentoService service;
+	
+	private final ArquivamentoProperties propriedades;
+	
+	@Scheduled(cron = "${minhasfinancas.arquivamento.cron:0 30 3 * * *}")
+	public void executar() {
+		int primeiroAnoAberto = propriedades.primeiroAnoAberto();
+		int total = 0;
+		int arquivados;
+		do {
+			arquivados = service.arquivarLote(primeiroAnoAberto, propriedades.getTamanhoLote());
+			total += arquivados;
+		} while (arquivados == propriedades.getTamanhoLote());
+		
+		if (total > 0) {
+			log.info("{} lançamentos anteriores a {} arquivados.", total, primeiroAnoAberto);
+		}
+	}
+}
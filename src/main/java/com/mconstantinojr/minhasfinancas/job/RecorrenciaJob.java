@@ -0,0 +1,39 @@
+package com.mconstantinojr.minhasfinancas.job;
+
+import java.time.YearMonth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mconstantinojr.minhasfinancas.config.RecorrenciaProperties;
+import com.mconstantinojr.minhasfinancas.service.RecorrenciaService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RecorrenciaJob {
+
+	private static final Logger log = LoggerFactory.getLogger(RecorrenciaJob.class);
+	
+	private final RecorrenciaService service;
+	
+	private final RecorrenciaProperties propriedades;
+	
+	@Scheduled(cron = "${minhasfinancas.recorrencia.cron:0 0 2 * * *}")
+	public void executar() {
+		YearMonth horizonte = propriedades.horizonte();
+		int total = 0;
+		int gerados;
+		do {
+			gerados = service.gerarLote(horizonte, propriedades.getTamanhoLote());
+			total += gerados;
+		} while (gerados > 0);
+		
+		if (total > 0) {
+			log.info("{} lançamentos recorrentes gerados até {}.", total, horizonte);
+		}
+	}
+}
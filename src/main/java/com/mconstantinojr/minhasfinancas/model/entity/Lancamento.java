@@ -3,23 +3,21 @@ package com.mconstantinojr.minhasfinancas.model.entity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
-import org.springframework.data.jpa.convert.threeten.Jsr310JpaConverters;
-
 import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
 import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,6 +25,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 @Entity(name = "Lancamento")
 @Table(name = "lancamento", schema = "financas")
@@ -39,7 +38,9 @@ import lombok.Setter;
 @Builder
 public class Lancamento {
 
-	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "lancamento_id")
+	@TableGenerator(name = "lancamento_id", schema = "financas", table = "gerador_id", pkColumnName = "nome", 
+			valueColumnName = "valor", pkColumnValue = "lancamento", allocationSize = 50)
 	@Column(name = "id")
     private Long id;
 	
@@ -52,15 +53,15 @@ public class Lancamento {
 	@Column(name = "ano")
 	private Integer ano;
 	
-	@ManyToOne(cascade = CascadeType.ALL)
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
     @JoinColumn(name = "id_usuario")
 	private Usuario usuario;
 	
-	@Column(name = "valor")
+	@Column(name = "valor", precision = 16, scale = 2)
 	private BigDecimal valor;
 	
 	@Column(name = "data_cadastro")
-	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
 	private LocalDate dataCadastro;
 	
 	@Column(name = "tipo")
@@ -70,5 +71,11 @@ public class Lancamento {
 	@Column(name = "status")
 	@Enumerated(value = EnumType.STRING)
 	private StatusLancamento status;
+	
+	@Column(name = "id_recorrencia", updatable = false)
+	private Long idRecorrencia;
+	
+	@Column(name = "parcela", updatable = false)
+	private Integer parcela;
 
 }
@@ -0,0 +1,82 @@
+package com.mconstantinojr.minhasfinancas.model.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Lançamento de um ano encerrado, movido da tabela lancamento pelo
+ * arquivamento. Mantém o mesmo id e os mesmos atributos de {@link Lancamento},
+ * o que permite aplicar as mesmas especificações de pesquisa.
+ */
+@Entity(name = "LancamentoArquivado")
+@Table(name = "lancamento_arquivo", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class LancamentoArquivado {
+
+	@Id
+	@Column(name = "id")
+	private Long id;
+	
+	@Column(name = "descricao")
+	private String descricao;
+	
+	@Column(name = "mes")
+	private Integer mes;
+
+	@Column(name = "ano")
+	private Integer ano;
+	
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@JoinColumn(name = "id_usuario")
+	private Usuario usuario;
+	
+	@Column(name = "valor", precision = 16, scale = 2)
+	private BigDecimal valor;
+	
+	@Column(name = "data_cadastro")
+	private LocalDate dataCadastro;
+	
+	@Column(name = "tipo")
+	@Enumerated(value = EnumType.STRING)
+	private TipoLancamento tipo;
+
+	@Column(name = "status")
+	@Enumerated(value = EnumType.STRING)
+	private StatusLancamento status;
+	
+	@Column(name = "id_recorrencia")
+	private Long idRecorrencia;
+	
+	@Column(name = "parcela")
+	private Integer parcela;
+	
+	public Lancamento paraLancamento() {
+		return Lancamento.builder().id(id).descricao(descricao).mes(mes).ano(ano).usuario(usuario).valor(valor)
+				.dataCadastro(dataCadastro).tipo(tipo).status(status).idRecorrencia(idRecorrencia).parcela(parcela).build();
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.mconstantinojr.minhasfinancas.model.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Lançamento mensal cadastrado uma única vez. Sem número de parcelas repete
+ * indefinitamente; com parcelas gera exatamente essa quantidade. A próxima
+ * parcela marca até onde os lançamentos já foram gerados.
+ */
+@Entity(name = "Recorrencia")
+@Table(name = "recorrencia", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class Recorrencia {
+
+	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private Long id;
+	
+	@Column(name = "descricao")
+	private String descricao;
+	
+	@Column(name = "valor", precision = 16, scale = 2)
+	private BigDecimal valor;
+	
+	@Column(name = "tipo")
+	@Enumerated(value = EnumType.STRING)
+	private TipoLancamento tipo;
+	
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@JoinColumn(name = "id_usuario")
+	private Usuario usuario;
+	
+	@Column(name = "ano_inicio")
+	private Integer anoInicio;
+	
+	@Column(name = "mes_inicio")
+	private Integer mesInicio;
+	
+	@Column(name = "parcelas")
+	private Integer parcelas;
+	
+	@Column(name = "proxima_parcela")
+	private int proximaParcela;
+	
+	@Column(name = "data_cadastro")
+	private LocalDate dataCadastro;
+	
+	public boolean isEncerrada() {
+		return parcelas != null && proximaParcela > parcelas;
+	}
+	
+	public YearMonth competencia(int parcela) {
+		return YearMonth.of(anoInicio, mesInicio).plusMonths(parcela - 1L);
+	}
+	
+	public Lancamento gerarParcela() {
+		return parcela(proximaParcela++);
+	}
+	
+	public Lancamento parcela(int parcela) {
+		YearMonth competencia = competencia(parcela);
+		return Lancamento.builder()
+				.descricao(parcelas == null ? descricao : descricao + " (" + parcela + "/" + parcelas + ")")
+				.ano(competencia.getYear())
+				.mes(competencia.getMonthValue())
+				.valor(valor)
+				.tipo(tipo)
+				.usuario(usuario)
+				.dataCadastro(LocalDate.now())
+				.idRecorrencia(id)
+				.parcela(parcela)
+				.build();
+	}
+
+}
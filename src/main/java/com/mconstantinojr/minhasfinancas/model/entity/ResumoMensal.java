@@ -0,0 +1,69 @@
+package com.mconstantinojr.minhasfinancas.model.entity;
+
+import java.math.BigDecimal;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Entity(name = "ResumoMensal")
+@Table(name = "resumo_mensal", schema = "financas")
+@IdClass(ResumoMensalId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = { "idUsuario", "ano", "mes", "tipo", "status" })
+public class ResumoMensal {
+
+	@Id
+	@Column(name = "id_usuario")
+	private Long idUsuario;
+	
+	@Id
+	@Column(name = "ano")
+	private Integer ano;
+	
+	@Id
+	@Column(name = "mes")
+	private Integer mes;
+	
+	@Id
+	@Column(name = "tipo")
+	@Enumerated(value = EnumType.STRING)
+	private TipoLancamento tipo;
+	
+	@Id
+	@Column(name = "status")
+	@Enumerated(value = EnumType.STRING)
+	private StatusLancamento status;
+	
+	@Column(name = "total", precision = 19, scale = 2)
+	private BigDecimal total;
+	
+	@Column(name = "quantidade")
+	private Long quantidade;
+	
+	public static ResumoMensal zerado(ResumoMensalId id) {
+		return new ResumoMensal(id.getIdUsuario(), id.getAno(), id.getMes(), id.getTipo(), id.getStatus(), 
+				BigDecimal.ZERO, 0L);
+	}
+	
+	public void somar(BigDecimal valor, long quantidade) {
+		this.total = this.total.add(valor);
+		this.quantidade += quantidade;
+	}
+	
+}
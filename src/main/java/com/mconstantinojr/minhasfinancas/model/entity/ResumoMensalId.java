@@ -0,0 +1,25 @@
+package com.mconstantinojr.minhasfinancas.model.entity;
+
+import java.io.Serializable;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoMensalId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long idUsuario;
+	private Integer ano;
+	private Integer mes;
+	private TipoLancamento tipo;
+	private StatusLancamento status;
+	
+}
@@ -0,0 +1,34 @@
+package com.mconstantinojr.minhasfinancas.model.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Entity(name = "SaldoArquivado")
+@Table(name = "saldo_arquivado", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "idUsuario")
+public class SaldoArquivado {
+
+	@Id
+	@Column(name = "id_usuario")
+	private Long idUsuario;
+	
+	@Column(name = "receitas", precision = 19, scale = 2)
+	private BigDecimal receitas;
+	
+	@Column(name = "despesas", precision = 19, scale = 2)
+	private BigDecimal despesas;
+
+}
@@ -0,0 +1,66 @@
+package com.mconstantinojr.minhasfinancas.model.entity;
+
+import java.math.BigDecimal;
+
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Entity(name = "SaldoUsuario")
+@Table(name = "saldo_usuario", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "idUsuario")
+public class SaldoUsuario {
+
+	@Id
+	@Column(name = "id_usuario")
+	private Long idUsuario;
+	
+	@Column(name = "receitas", precision = 19, scale = 2)
+	private BigDecimal receitas;
+	
+	@Column(name = "despesas", precision = 19, scale = 2)
+	private BigDecimal despesas;
+	
+	@Column(name = "versao")
+	private long versao;
+	
+	public SaldoUsuario(Long idUsuario, BigDecimal receitas, BigDecimal despesas) {
+		this(idUsuario, receitas, despesas, 0L);
+	}
+	
+	public static SaldoUsuario zerado(Long idUsuario) {
+		return new SaldoUsuario(idUsuario, BigDecimal.ZERO, BigDecimal.ZERO);
+	}
+	
+	public void movimentar(TipoLancamento tipo, BigDecimal valor) {
+		if (tipo == TipoLancamento.RECEITA) {
+			receitas = receitas.add(valor);
+		} else {
+			despesas = despesas.add(valor);
+		}
+		versao++;
+	}
+	
+	public SaldoUsuario somar(BigDecimal receitas, BigDecimal despesas) {
+		this.receitas = this.receitas.add(receitas);
+		this.despesas = this.despesas.add(despesas);
+		return this;
+	}
+	
+	public BigDecimal getSaldo() {
+		return receitas.subtract(despesas);
+	}
+
+}
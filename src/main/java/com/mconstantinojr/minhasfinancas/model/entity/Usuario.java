@@ -1,7 +1,11 @@
 package com.mconstantinojr.minhasfinancas.model.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -18,6 +22,8 @@ import lombok.Setter;
 
 @Entity(name = "Usuario")
 @Table(name = "usuario", schema = "financas")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuario")
 @Data
 @Builder
 @Getter
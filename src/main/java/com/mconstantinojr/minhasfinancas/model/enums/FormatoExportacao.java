@@ -0,0 +1,23 @@
+package com.mconstantinojr.minhasfinancas.model.enums;
+
+public enum FormatoExportacao {
+
+	CSV("text/csv", "csv"),
+	NDJSON("application/x-ndjson", "ndjson");
+	
+	private final String contentType;
+	private final String extensao;
+	
+	FormatoExportacao(String contentType, String extensao) {
+		this.contentType = contentType;
+		this.extensao = extensao;
+	}
+	
+	public String getContentType() {
+		return contentType;
+	}
+	
+	public String getExtensao() {
+		return extensao;
+	}
+}
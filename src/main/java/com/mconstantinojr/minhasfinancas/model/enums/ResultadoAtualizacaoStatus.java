@@ -0,0 +1,9 @@
+package com.mconstantinojr.minhasfinancas.model.enums;
+
+public enum ResultadoAtualizacaoStatus {
+
+	ATUALIZADO,
+	INALTERADO,
+	NAO_ENCONTRADO
+
+}
@@ -0,0 +1,11 @@
+package com.mconstantinojr.minhasfinancas.model.enums;
+
+public enum TipoEventoLancamento {
+
+	CRIADO,
+	ATUALIZADO,
+	EXCLUIDO,
+	STATUS_ALTERADO,
+	ARQUIVADO
+	
+}
@@ -0,0 +1,5 @@
+package com.mconstantinojr.minhasfinancas.model.projection;
+
+public record LancamentoDoUsuario(Long id, Long idUsuario) {
+
+}
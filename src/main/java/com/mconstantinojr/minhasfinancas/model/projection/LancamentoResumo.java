@@ -0,0 +1,19 @@
+package com.mconstantinojr.minhasfinancas.model.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+public record LancamentoResumo(Long id, String descricao, Integer mes, Integer ano, BigDecimal valor,
+		TipoLancamento tipo, StatusLancamento status, LocalDate dataCadastro, Long usuario) {
+
+	public static LancamentoResumo de(Lancamento lancamento) {
+		return new LancamentoResumo(lancamento.getId(), lancamento.getDescricao(), lancamento.getMes(), lancamento.getAno(),
+				lancamento.getValor(), lancamento.getTipo(), lancamento.getStatus(), lancamento.getDataCadastro(),
+				lancamento.getUsuario() != null ? lancamento.getUsuario().getId() : null);
+	}
+
+}
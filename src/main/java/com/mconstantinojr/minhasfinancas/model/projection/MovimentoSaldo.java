@@ -0,0 +1,16 @@
+package com.mconstantinojr.minhasfinancas.model.projection;
+
+import java.math.BigDecimal;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+public record MovimentoSaldo(Long idUsuario, TipoLancamento tipo, BigDecimal valor, Integer ano, Integer mes, 
+		StatusLancamento status, Long quantidade) {
+
+	public MovimentoSaldo(Long idUsuario, TipoLancamento tipo, BigDecimal valor, Integer ano, Integer mes, 
+			StatusLancamento status) {
+		this(idUsuario, tipo, valor, ano, mes, status, 1L);
+	}
+	
+}
@@ -0,0 +1,7 @@
+package com.mconstantinojr.minhasfinancas.model.projection;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+
+public record SituacaoLancamento(Long id, StatusLancamento status) {
+
+}
@@ -0,0 +1,10 @@
+package com.mconstantinojr.minhasfinancas.model.projection;
+
+import java.math.BigDecimal;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+public record TotalMensal(Integer mes, TipoLancamento tipo, StatusLancamento status, BigDecimal total) {
+
+}
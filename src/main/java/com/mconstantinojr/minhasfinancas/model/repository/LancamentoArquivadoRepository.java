@@ -0,0 +1,66 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.mconstantinojr.minhasfinancas.model.entity.LancamentoArquivado;
+import com.mconstantinojr.minhasfinancas.model.entity.ResumoMensal;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+
+import jakarta.persistence.QueryHint;
+
+public interface LancamentoArquivadoRepository extends JpaRepository<LancamentoArquivado, Long> {
+
+	String SELECT_RESUMO = " select new com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo(l.id, l.descricao, "
+			+ "l.mes, l.ano, l.valor, l.tipo, l.status, l.dataCadastro, l.usuario.id) "
+			+ "from LancamentoArquivado l "
+			+ "where l.usuario.id = :idUsuario "
+			+ "and (:descricao is null or upper(l.descricao) like upper(concat('%', :descricao, '%'))) "
+			+ "and (:mes is null or l.mes = :mes) "
+			+ "and l.ano = :ano ";
+	
+	String SELECT_RESUMO_MENSAL = " select new com.mconstantinojr.minhasfinancas.model.entity.ResumoMensal(l.usuario.id, "
+			+ "l.ano, l.mes, l.tipo, l.status, sum(l.valor), count(l)) "
+			+ "from LancamentoArquivado l where l.usuario is not null and l.tipo is not null and l.status is not null ";
+	
+	@Modifying
+	@Query(value = " insert into LancamentoArquivado (id, descricao, mes, ano, usuario, valor, dataCadastro, tipo, status, "
+			+ "idRecorrencia, parcela) "
+			+ "select l.id, l.descricao, l.mes, l.ano, l.usuario, l.valor, l.dataCadastro, l.tipo, l.status, "
+			+ "l.idRecorrencia, l.parcela "
+			+ "from Lancamento l where l.id in :ids ")
+	int arquivar(@Param("ids") Collection<Long> ids);
+	
+	@Query(value = SELECT_RESUMO + "order by l.ano, l.mes, l.id ")
+	List<LancamentoResumo> buscarResumos(@Param("idUsuario") Long idUsuario, @Param("descricao") String descricao,
+			@Param("mes") Integer mes, @Param("ano") Integer ano);
+	
+	@Query(value = SELECT_RESUMO 
+			+ "and (l.ano > :cursorAno or (l.ano = :cursorAno and (l.mes > :cursorMes or (l.mes = :cursorMes and l.id > :cursorId)))) "
+			+ "order by l.ano, l.mes, l.id ")
+	List<LancamentoResumo> buscarPagina(@Param("idUsuario") Long idUsuario, @Param("descricao") String descricao,
+			@Param("mes") Integer mes, @Param("ano") Integer ano, @Param("cursorAno") Integer cursorAno,
+			@Param("cursorMes") Integer cursorMes, @Param("cursorId") Long cursorId, Limit limite);
+	
+	@Query(value = SELECT_RESUMO_MENSAL + "and l.usuario.id = :idUsuario group by l.usuario.id, l.ano, l.mes, l.tipo, l.status ")
+	List<ResumoMensal> calcularResumos(@Param("idUsuario") Long idUsuario);
+	
+	@Query(value = SELECT_RESUMO_MENSAL + "group by l.usuario.id, l.ano, l.mes, l.tipo, l.status ")
+	List<ResumoMensal> calcularResumos();
+	
+	@Query(value = " select l from LancamentoArquivado l "
+			+ "where l.usuario.id = :idUsuario order by l.ano, l.mes, l.id ")
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), 
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	Stream<LancamentoArquivado> exportarPorUsuario(@Param("idUsuario") Long idUsuario);
+	
+}
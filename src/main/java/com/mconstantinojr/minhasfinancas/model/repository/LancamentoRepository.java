@@ -1,19 +1,118 @@
 package com.mconstantinojr.minhasfinancas.model.repository;
 
-import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.ResumoMensal;
+import com.mconstantinojr.minhasfinancas.model.entity.SaldoUsuario;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
 import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoDoUsuario;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+import com.mconstantinojr.minhasfinancas.model.projection.MovimentoSaldo;
+import com.mconstantinojr.minhasfinancas.model.projection.SituacaoLancamento;
 
-public interface LancamentoRepository extends JpaRepository<Lancamento, Long> {
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
-	@Query(value = " select sum(l.valor) "
-			+ "from Lancamento l join l.usuario "
-			+ "u where u.id = :idUsuario and l.tipo = :tipo "
-			+ "group by u ")
-	BigDecimal obterSaldoPorTipoLancamentoEUsuario(@Param("idUsuario") Long idUsuario, @Param("tipo") TipoLancamento tipo);
+public interface LancamentoRepository extends JpaRepository<Lancamento, Long>, JpaSpecificationExecutor<Lancamento>, LancamentoRepositoryCustom {
+
+	String SELECT_SALDO = " select new com.mconstantinojr.minhasfinancas.model.entity.SaldoUsuario(l.usuario.id, "
+			+ "coalesce(sum(case when l.tipo = com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento.RECEITA then l.valor end), 0), "
+			+ "coalesce(sum(case when l.tipo = com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento.DESPESA then l.valor end), 0)) "
+			+ "from Lancamento l ";
+	
+	String SELECT_RESUMO = " select new com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo(l.id, l.descricao, "
+			+ "l.mes, l.ano, l.valor, l.tipo, l.status, l.dataCadastro, l.usuario.id) "
+			+ "from Lancamento l "
+			+ "where l.usuario.id = :idUsuario "
+			+ "and (:descricao is null or upper(l.descricao) like upper(concat('%', :descricao, '%'))) "
+			+ "and (:mes is null or l.mes = :mes) "
+			+ "and (:ano is null or l.ano = :ano) ";
+
+	@Query(value = SELECT_RESUMO + "order by l.ano, l.mes, l.id ")
+	List<LancamentoResumo> buscarResumos(@Param("idUsuario") Long idUsuario, @Param("descricao") String descricao,
+			@Param("mes") Integer mes, @Param("ano") Integer ano);
+	
+	@Query(value = SELECT_RESUMO 
+			+ "and (l.ano > :cursorAno or (l.ano = :cursorAno and (l.mes > :cursorMes or (l.mes = :cursorMes and l.id > :cursorId)))) "
+			+ "order by l.ano, l.mes, l.id ")
+	List<LancamentoResumo> buscarPagina(@Param("idUsuario") Long idUsuario, @Param("descricao") String descricao,
+			@Param("mes") Integer mes, @Param("ano") Integer ano, @Param("cursorAno") Integer cursorAno,
+			@Param("cursorMes") Integer cursorMes, @Param("cursorId") Long cursorId, Limit limite);
+
+	@Query(value = " select new com.mconstantinojr.minhasfinancas.model.projection.MovimentoSaldo(l.usuario.id, l.tipo, l.valor, "
+			+ "l.ano, l.mes, l.status) "
+			+ "from Lancamento l where l.id = :id ")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+	Optional<MovimentoSaldo> obterMovimento(@Param("id") Long id);
+	
+	@Query(value = " select new com.mconstantinojr.minhasfinancas.model.projection.MovimentoSaldo(l.usuario.id, l.tipo, sum(l.valor), "
+			+ "l.ano, l.mes, l.status, count(l)) "
+			+ "from Lancamento l where l.usuario.id = :idUsuario and l.id in :ids and l.status <> :status "
+			+ "group by l.usuario.id, l.tipo, l.ano, l.mes, l.status ")
+	List<MovimentoSaldo> obterMovimentos(@Param("idUsuario") Long idUsuario, @Param("ids") Collection<Long> ids, 
+			@Param("status") StatusLancamento status);
+	
+	@Query(value = " select new com.mconstantinojr.minhasfinancas.model.entity.ResumoMensal(l.usuario.id, l.ano, l.mes, l.tipo, l.status, "
+			+ "sum(l.valor), count(l)) "
+			+ "from Lancamento l where l.usuario.id = :idUsuario and l.ano = :ano and l.mes = :mes "
+			+ "and l.tipo = :tipo and l.status = :status "
+			+ "group by l.usuario.id, l.ano, l.mes, l.tipo, l.status ")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+	Optional<ResumoMensal> calcularResumo(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano, 
+			@Param("mes") Integer mes, @Param("tipo") TipoLancamento tipo, @Param("status") StatusLancamento status);
+	
+	@Query(value = SELECT_SALDO + "where l.usuario.id = :idUsuario group by l.usuario.id ")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+	Optional<SaldoUsuario> calcularSaldo(@Param("idUsuario") Long idUsuario);
+	
+	@Query(value = SELECT_SALDO + "group by l.usuario.id ")
+	List<SaldoUsuario> calcularSaldos();
+	
+	@Query(value = SELECT_SALDO + "where l.id in :ids group by l.usuario.id ")
+	List<SaldoUsuario> calcularSaldos(@Param("ids") Collection<Long> ids);
+	
+	@Query(value = " select l from Lancamento l "
+			+ "where l.usuario.id = :idUsuario order by l.ano, l.mes, l.id ")
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), 
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	Stream<Lancamento> exportarPorUsuario(@Param("idUsuario") Long idUsuario);
+	
+	@Query(value = " select new com.mconstantinojr.minhasfinancas.model.projection.SituacaoLancamento(l.id, l.status) "
+			+ "from Lancamento l where l.usuario.id = :idUsuario and l.id in :ids ")
+	List<SituacaoLancamento> obterSituacoes(@Param("idUsuario") Long idUsuario, @Param("ids") Collection<Long> ids);
+	
+	@Query(value = " select new com.mconstantinojr.minhasfinancas.model.projection.SituacaoLancamento(l.id, l.status) "
+			+ "from Lancamento l where l.usuario.id = :idUsuario and l.ano = :ano and (:mes is null or l.mes = :mes) ")
+	List<SituacaoLancamento> obterSituacoesDoPeriodo(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano, 
+			@Param("mes") Integer mes);
+	
+	@Modifying
+	@Query(value = " update Lancamento l set l.status = :status "
+			+ "where l.usuario.id = :idUsuario and l.id in :ids and l.status <> :status ")
+	int atualizarStatus(@Param("idUsuario") Long idUsuario, @Param("ids") Collection<Long> ids, 
+			@Param("status") StatusLancamento status);
+	
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query(value = " select new com.mconstantinojr.minhasfinancas.model.projection.LancamentoDoUsuario(l.id, l.usuario.id) "
+			+ "from Lancamento l where l.ano < :ano order by l.id ")
+	List<LancamentoDoUsuario> obterAnterioresAo(@Param("ano") Integer ano, Limit limite);
+	
+	@Modifying
+	@Query(value = " delete from Lancamento l where l.id in :ids ")
+	int excluir(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,18 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.LancamentoArquivado;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+
+public interface LancamentoRepositoryCustom {
+
+	List<LancamentoResumo> pesquisar(Specification<Lancamento> especificacao, Sort ordem, int limite);
+	
+	List<LancamentoResumo> pesquisarArquivados(Specification<LancamentoArquivado> especificacao, Sort ordem, int limite);
+	
+}
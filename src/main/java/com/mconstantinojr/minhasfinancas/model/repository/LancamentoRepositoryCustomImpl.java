@@ -0,0 +1,53 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.LancamentoArquivado;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+public class LancamentoRepositoryCustomImpl implements LancamentoRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+	
+	@Override
+	public List<LancamentoResumo> pesquisar(Specification<Lancamento> especificacao, Sort ordem, int limite) {
+		return pesquisar(Lancamento.class, especificacao, ordem, limite);
+	}
+	
+	@Override
+	public List<LancamentoResumo> pesquisarArquivados(Specification<LancamentoArquivado> especificacao, Sort ordem, int limite) {
+		return pesquisar(LancamentoArquivado.class, especificacao, ordem, limite);
+	}
+	
+	/*
+	 * LancamentoArquivado tem os mesmos atributos de Lancamento, então a projeção
+	 * e a ordenação, escritas sobre os nomes dos atributos, valem para ambos.
+	 */
+	private <T> List<LancamentoResumo> pesquisar(Class<T> entidade, Specification<T> especificacao, 
+			Sort ordem, int limite) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<LancamentoResumo> query = cb.createQuery(LancamentoResumo.class);
+		Root<T> root = query.from(entidade);
+		
+		query.select(cb.construct(LancamentoResumo.class, root.get("id"), root.get("descricao"), root.get("mes"),
+				root.get("ano"), root.get("valor"), root.get("tipo"), root.get("status"), root.get("dataCadastro"),
+				root.get("usuario").get("id")));
+		query.where(especificacao.toPredicate(root, query, cb));
+		query.orderBy(QueryUtils.toOrders(ordem, root, cb));
+		
+		return entityManager.createQuery(query).setMaxResults(limite).getResultList();
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.mconstantinojr.minhasfinancas.api.dto.FiltroLancamentoDTO;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+
+/**
+ * Filtros da pesquisa de lançamentos. São escritos sobre os nomes dos atributos,
+ * comuns a Lancamento e LancamentoArquivado, e servem a qualquer das duas entidades.
+ */
+public final class LancamentoSpecifications {
+
+	private LancamentoSpecifications() {
+	}
+
+	public static <T> Specification<T> filtrar(FiltroLancamentoDTO filtro) {
+		return Specification.<T>where(doUsuario(filtro.getUsuario()))
+				.and(doTipo(filtro.getTipo()))
+				.and(comValorMinimo(filtro.getValorMinimo()))
+				.and(comValorMaximo(filtro.getValorMaximo()))
+				.and(aPartirDe(filtro.getDe()))
+				.and(ate(filtro.getAte()))
+				.and(comStatus(filtro.getStatus()))
+				.and(descricaoContem(filtro.getDescricao()));
+	}
+
+	public static <T> Specification<T> doUsuario(Long idUsuario) {
+		return (root, query, cb) -> cb.equal(root.get("usuario").get("id"), idUsuario);
+	}
+
+	public static <T> Specification<T> doTipo(TipoLancamento tipo) {
+		return tipo == null ? null : (root, query, cb) -> cb.equal(root.get("tipo"), tipo);
+	}
+
+	public static <T> Specification<T> comStatus(StatusLancamento status) {
+		return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+	}
+
+	public static <T> Specification<T> comValorMinimo(BigDecimal valor) {
+		return valor == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("valor"), valor);
+	}
+
+	public static <T> Specification<T> comValorMaximo(BigDecimal valor) {
+		return valor == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("valor"), valor);
+	}
+
+	/*
+	 * ano e mes ficam em colunas separadas; a comparação isolada sobre o ano
+	 * mantém a faixa utilizável pelo índice (id_usuario, ano, mes).
+	 */
+	public static <T> Specification<T> aPartirDe(YearMonth inicio) {
+		return inicio == null ? null : (root, query, cb) -> cb.and(
+				cb.greaterThanOrEqualTo(root.get("ano"), inicio.getYear()),
+				cb.or(cb.greaterThan(root.get("ano"), inicio.getYear()),
+						cb.greaterThanOrEqualTo(root.get("mes"), inicio.getMonthValue())));
+	}
+
+	public static <T> Specification<T> ate(YearMonth fim) {
+		return fim == null ? null : (root, query, cb) -> cb.and(
+				cb.lessThanOrEqualTo(root.get("ano"), fim.getYear()),
+				cb.or(cb.lessThan(root.get("ano"), fim.getYear()),
+						cb.lessThanOrEqualTo(root.get("mes"), fim.getMonthValue())));
+	}
+
+	public static <T> Specification<T> descricaoContem(String descricao) {
+		return descricao == null || descricao.isBlank() ? null : (root, query, cb) -> 
+				cb.like(cb.upper(root.get("descricao")), "%" + descricao.trim().toUpperCase() + "%");
+	}
+}
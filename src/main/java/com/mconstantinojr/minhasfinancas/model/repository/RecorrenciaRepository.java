@@ -0,0 +1,28 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Recorrencia;
+
+import jakarta.persistence.LockModeType;
+
+public interface RecorrenciaRepository extends JpaRepository<Recorrencia, Long> {
+
+	/*
+	 * Competências contadas em meses (ano * 12 + mês - 1): a da próxima parcela
+	 * ainda não gerada deve estar até o período informado.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query(value = " select r from Recorrencia r "
+			+ "where (r.parcelas is null or r.proximaParcela <= r.parcelas) "
+			+ "and r.anoInicio * 12 + r.mesInicio - 1 + r.proximaParcela - 1 <= :periodo "
+			+ "order by r.id ")
+	List<Recorrencia> obterPendentes(@Param("periodo") int periodo, Limit limite);
+	
+}
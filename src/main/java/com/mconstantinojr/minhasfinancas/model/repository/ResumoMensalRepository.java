@@ -0,0 +1,59 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.mconstantinojr.minhasfinancas.model.entity.ResumoMensal;
+import com.mconstantinojr.minhasfinancas.model.entity.ResumoMensalId;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.TotalMensal;
+
+public interface ResumoMensalRepository extends JpaRepository<ResumoMensal, ResumoMensalId> {
+
+	String INSERT_RESUMOS = " insert into ResumoMensal (idUsuario, ano, mes, tipo, status, total, quantidade) "
+			+ "select l.usuario.id, l.ano, l.mes, l.tipo, l.status, sum(l.valor), count(l) "
+			+ "from Lancamento l where l.usuario is not null and l.tipo is not null and l.status is not null ";
+	
+	@Modifying
+	@Query(value = " update ResumoMensal r set r.total = r.total + :valor, r.quantidade = r.quantidade + :quantidade "
+			+ "where r.idUsuario = :idUsuario and r.ano = :ano and r.mes = :mes and r.tipo = :tipo and r.status = :status ")
+	int somar(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano, @Param("mes") Integer mes, 
+			@Param("tipo") TipoLancamento tipo, @Param("status") StatusLancamento status, 
+			@Param("valor") BigDecimal valor, @Param("quantidade") long quantidade);
+	
+	@Modifying
+	@Query(nativeQuery = true, value = " insert into financas.resumo_mensal (id_usuario, ano, mes, tipo, status, total, quantidade) "
+			+ "values (:idUsuario, :ano, :mes, :tipo, :status, :total, :quantidade) "
+			+ "on duplicate key update total = total + :valor, quantidade = quantidade + :quantidadeMovimento ")
+	int criarOuSomar(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano, @Param("mes") Integer mes, 
+			@Param("tipo") String tipo, @Param("status") String status, @Param("total") BigDecimal total, 
+			@Param("quantidade") long quantidade, @Param("valor") BigDecimal valor, 
+			@Param("quantidadeMovimento") long quantidadeMovimento);
+	
+	@Query(value = " select new com.mconstantinojr.minhasfinancas.model.projection.TotalMensal(r.mes, r.tipo, r.status, r.total) "
+			+ "from ResumoMensal r where r.idUsuario = :idUsuario and r.ano = :ano and r.quantidade > 0 ")
+	List<TotalMensal> obterTotaisMensais(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = " delete from ResumoMensal r where r.idUsuario = :idUsuario ")
+	void excluirPorUsuario(@Param("idUsuario") Long idUsuario);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = " delete from ResumoMensal r ")
+	void excluirTodos();
+	
+	@Modifying
+	@Query(value = INSERT_RESUMOS + "and l.usuario.id = :idUsuario group by l.usuario.id, l.ano, l.mes, l.tipo, l.status ")
+	int calcularPorUsuario(@Param("idUsuario") Long idUsuario);
+	
+	@Modifying
+	@Query(value = INSERT_RESUMOS + "group by l.usuario.id, l.ano, l.mes, l.tipo, l.status ")
+	int calcularTodos();
+	
+}
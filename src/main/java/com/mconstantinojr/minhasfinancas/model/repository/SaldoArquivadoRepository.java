@@ -0,0 +1,20 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.mconstantinojr.minhasfinancas.model.entity.SaldoArquivado;
+
+public interface SaldoArquivadoRepository extends JpaRepository<SaldoArquivado, Long> {
+
+	@Modifying
+	@Query(value = " update SaldoArquivado s set s.receitas = s.receitas + :receitas, s.despesas = s.despesas + :despesas "
+			+ "where s.idUsuario = :idUsuario ")
+	int somar(@Param("idUsuario") Long idUsuario, @Param("receitas") BigDecimal receitas, 
+			@Param("despesas") BigDecimal despesas);
+	
+}
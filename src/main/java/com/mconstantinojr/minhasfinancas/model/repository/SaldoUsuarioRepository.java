@@ -0,0 +1,49 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.mconstantinojr.minhasfinancas.model.entity.SaldoUsuario;
+
+public interface SaldoUsuarioRepository extends JpaRepository<SaldoUsuario, Long> {
+
+	@Query(value = " select s.receitas - s.despesas from SaldoUsuario s where s.idUsuario = :idUsuario ")
+	Optional<BigDecimal> obterSaldo(@Param("idUsuario") Long idUsuario);
+
+	@Modifying
+	@Query(value = " update SaldoUsuario s set s.receitas = s.receitas + :valor, s.versao = s.versao + 1 where s.idUsuario = :idUsuario ")
+	int somarReceitas(@Param("idUsuario") Long idUsuario, @Param("valor") BigDecimal valor);
+	
+	@Modifying
+	@Query(value = " update SaldoUsuario s set s.despesas = s.despesas + :valor, s.versao = s.versao + 1 where s.idUsuario = :idUsuario ")
+	int somarDespesas(@Param("idUsuario") Long idUsuario, @Param("valor") BigDecimal valor);
+	
+	@Modifying
+	@Query(nativeQuery = true, value = " insert into financas.saldo_usuario (id_usuario, receitas, despesas, versao) "
+			+ "values (:idUsuario, :receitas, :despesas, :versao) "
+			+ "on duplicate key update receitas = receitas + :receitasMovimento, despesas = despesas + :despesasMovimento, "
+			+ "versao = versao + 1 ")
+	int criarOuMovimentar(@Param("idUsuario") Long idUsuario, @Param("receitas") BigDecimal receitas, 
+			@Param("despesas") BigDecimal despesas, @Param("versao") long versao, 
+			@Param("receitasMovimento") BigDecimal receitasMovimento, @Param("despesasMovimento") BigDecimal despesasMovimento);
+	
+	@Modifying
+	@Query(value = " update SaldoUsuario s set s.versao = s.versao + 1 where s.idUsuario = :idUsuario ")
+	int incrementarVersao(@Param("idUsuario") Long idUsuario);
+	
+	@Query(value = " select s.versao from SaldoUsuario s where s.idUsuario = :idUsuario ")
+	Optional<Long> obterVersao(@Param("idUsuario") Long idUsuario);
+	
+	@Query(value = " select coalesce(max(s.versao), 0) from SaldoUsuario s ")
+	long obterMaiorVersao();
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = " delete from SaldoUsuario s ")
+	void excluirTodos();
+	
+}
@@ -2,12 +2,19 @@ package com.mconstantinojr.minhasfinancas.model.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
 
+import jakarta.persistence.QueryHint;
+
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
 
+	@Cacheable(cacheNames = "usuariosPorEmail", key = "#p0", condition = "#p0 != null", unless = "#result == null")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	Optional<Usuario> findByEmail(String email);
 	
 	boolean existsByEmail(String email);
@@ -0,0 +1,44 @@
+package com.mconstantinojr.minhasfinancas.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens sem trava, guardado como o instante teórico em que o balde
+ * estaria cheio de novo (GCRA). Cada consumo avança esse instante em um
+ * intervalo de reposição; o consumo é recusado quando o avanço passaria da
+ * capacidade do balde.
+ */
+class BaldeTokens {
+
+	private final long intervaloNanos;
+	
+	private final long toleranciaNanos;
+	
+	private final AtomicLong chegadaTeorica;
+	
+	BaldeTokens(int capacidade, double reposicaoPorSegundo, long agora) {
+		this.intervaloNanos = (long) (1_000_000_000L / reposicaoPorSegundo);
+		this.toleranciaNanos = intervaloNanos * capacidade;
+		this.chegadaTeorica = new AtomicLong(agora);
+	}
+	
+	/**
+	 * @return zero se o token foi consumido, ou quantos nanossegundos faltam
+	 * para haver um token disponível.
+	 */
+	long consumir(long agora) {
+		while (true) {
+			long atual = chegadaTeorica.get();
+			long proxima = Math.max(atual, agora) + intervaloNanos;
+			long excesso = proxima - agora - toleranciaNanos;
+			
+			if (excesso > 0) {
+				return excesso;
+			}
+			
+			if (chegadaTeorica.compareAndSet(atual, proxima)) {
+				return 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.mconstantinojr.minhasfinancas.security;
+
+public enum ClasseEndpoint {
+
+	PESQUISA,
+	SALDO,
+	ESCRITA,
+	AUTENTICACAO
+	
+}
@@ -0,0 +1,20 @@
+package com.mconstantinojr.minhasfinancas.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Submete o endpoint à taxa e à concorrência configuradas para a sua classe
+ * em minhasfinancas.limites.classes.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LimiteRequisicoes {
+
+	ClasseEndpoint value();
+	
+}
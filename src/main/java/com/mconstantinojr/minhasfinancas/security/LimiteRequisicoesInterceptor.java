@@ -0,0 +1,121 @@
+package com.mconstantinojr.minhasfinancas.security;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Aplica, aos endpoints anotados com LimiteRequisicoes, um balde de tokens por
+ * cliente e classe de endpoint (429 com Retry-After quando vazio) e um limite
+ * de requisições simultâneas por classe (503 quando esgotado), para que uma
+ * classe de endpoint não ocupe todas as conexões do pool. A soma das vagas
+ * de todas as classes deve caber no pool de conexões.
+ * 
+ * O cliente é o usuário do token ou, sem token, o endereço de origem; o
+ * parâmetro usuario, escolhido por quem chama, não é usado como chave. Em
+ * respostas assíncronas (exportação) a vaga de concorrência é mantida até o
+ * fim do processamento assíncrono.
+ */
+public class LimiteRequisicoesInterceptor implements AsyncHandlerInterceptor {
+
+	private static final String ATRIBUTO_VAGA = "minhasfinancas.limites.vaga";
+	
+	private final LimitesProperties propriedades;
+	
+	private final MeterRegistry registro;
+	
+	private final Cache<Cliente, BaldeTokens> baldes;
+	
+	private final Map<ClasseEndpoint, Semaphore> vagas = new EnumMap<>(ClasseEndpoint.class);
+	
+	public LimiteRequisicoesInterceptor(LimitesProperties propriedades, MeterRegistry registro) {
+		this.propriedades = propriedades;
+		this.registro = registro;
+		this.baldes = Caffeine.newBuilder()
+				.maximumSize(propriedades.getMaximoClientes())
+				.expireAfterAccess(propriedades.getExpiracaoClientes())
+				.build();
+		
+		for (ClasseEndpoint classe : ClasseEndpoint.values()) {
+			vagas.put(classe, new Semaphore(propriedades.getLimite(classe).getConcorrencia()));
+		}
+	}
+	
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod metodo)) {
+			return true;
+		}
+		
+		LimiteRequisicoes anotacao = metodo.getMethodAnnotation(LimiteRequisicoes.class);
+		if (anotacao == null) {
+			return true;
+		}
+		
+		ClasseEndpoint classe = anotacao.value();
+		LimitesProperties.Limite limite = propriedades.getLimite(classe);
+		
+		long agora = System.nanoTime();
+		BaldeTokens balde = baldes.get(new Cliente(classe, identificar(request)), 
+				cliente -> new BaldeTokens(limite.getCapacidade(), limite.getReposicaoPorSegundo(), agora));
+		
+		long espera = balde.consumir(agora);
+		if (espera > 0) {
+			long segundos = TimeUnit.NANOSECONDS.toSeconds(espera + TimeUnit.SECONDS.toNanos(1) - 1);
+			rejeitar(response, classe, "taxa", HttpStatus.TOO_MANY_REQUESTS, segundos, "Limite de requisições excedido.");
+			return false;
+		}
+		
+		Semaphore vaga = vagas.get(classe);
+		if (!vaga.tryAcquire(propriedades.getEsperaConcorrencia().toMillis(), TimeUnit.MILLISECONDS)) {
+			rejeitar(response, classe, "concorrencia", HttpStatus.SERVICE_UNAVAILABLE, 1, 
+					"Servidor ocupado, tente novamente.");
+			return false;
+		}
+		
+		request.setAttribute(ATRIBUTO_VAGA, vaga);
+		return true;
+	}
+	
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		Object vaga = request.getAttribute(ATRIBUTO_VAGA);
+		if (vaga instanceof Semaphore semaforo) {
+			request.removeAttribute(ATRIBUTO_VAGA);
+			semaforo.release();
+		}
+	}
+	
+	private void rejeitar(HttpServletResponse response, ClasseEndpoint classe, String motivo, HttpStatus status, 
+			long segundos, String mensagem) throws Exception {
+		registro.counter("minhasfinancas.limites.rejeitadas", "classe", classe.name(), "motivo", motivo).increment();
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+		response.sendError(status.value(), mensagem);
+	}
+	
+	private static String identificar(HttpServletRequest request) {
+		Object idUsuario = request.getAttribute(TokenFilter.ATRIBUTO_USUARIO);
+		if (idUsuario != null) {
+			return "u:" + idUsuario;
+		}
+		
+		return "ip:" + request.getRemoteAddr();
+	}
+	
+	private record Cliente(ClasseEndpoint classe, String chave) {
+	}
+}
@@ -0,0 +1,37 @@
+package com.mconstantinojr.minhasfinancas.security;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "minhasfinancas.limites")
+public class LimitesProperties {
+
+	private boolean habilitado = true;
+	
+	private Duration esperaConcorrencia = Duration.ofMillis(200);
+	
+	private long maximoClientes = 100000;
+	
+	private Duration expiracaoClientes = Duration.ofMinutes(10);
+	
+	private Map<ClasseEndpoint, Limite> classes = new EnumMap<>(ClasseEndpoint.class);
+	
+	public Limite getLimite(ClasseEndpoint classe) {
+		return classes.computeIfAbsent(classe, c -> new Limite());
+	}
+	
+	@Data
+	public static class Limite {
+		
+		private int capacidade = 20;
+		private double reposicaoPorSegundo = 10;
+		private int concorrencia = 2;
+		
+	}
+}
@@ -0,0 +1,54 @@
+package com.mconstantinojr.minhasfinancas.security;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.mconstantinojr.minhasfinancas.service.TokenService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TokenFilter extends OncePerRequestFilter {
+
+	public static final String ATRIBUTO_USUARIO = "minhasfinancas.usuario";
+	
+	private static final String PREFIXO = "Bearer ";
+	
+	private final TokenService tokenService;
+	
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+		
+		if (autorizacao == null || !autorizacao.startsWith(PREFIXO)) {
+			chain.doFilter(request, response);
+			return;
+		}
+		
+		Optional<Long> idUsuario = tokenService.obterIdUsuario(autorizacao.substring(PREFIXO.length()).trim());
+		if (!idUsuario.isPresent()) {
+			response.sendError(HttpStatus.UNAUTHORIZED.value(), "Token inválido ou expirado.");
+			return;
+		}
+		
+		String usuarioInformado = request.getParameter("usuario");
+		if (usuarioInformado != null && !usuarioInformado.equals(idUsuario.get().toString())) {
+			response.sendError(HttpStatus.FORBIDDEN.value(), "O token não pertence ao usuário informado.");
+			return;
+		}
+		
+		request.setAttribute(ATRIBUTO_USUARIO, idUsuario.get());
+		chain.doFilter(request, response);
+	}
+}
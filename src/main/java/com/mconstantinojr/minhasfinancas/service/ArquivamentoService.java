@@ -0,0 +1,7 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+public interface ArquivamentoService {
+
+	int arquivarLote(Integer primeiroAnoAberto, int tamanhoLote);
+	
+}
@@ -1,28 +1,54 @@
 package com.mconstantinojr.minhasfinancas.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import com.mconstantinojr.minhasfinancas.api.dto.FiltroLancamentoDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.PaginaDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.ResultadoStatusDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.SaldoAnualDTO;
 import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.FormatoExportacao;
 import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
 
 public interface LancamentoService {
 
 	Lancamento salvar(Lancamento lancamento);
 	
+	int salvarEmLote(List<Lancamento> lancamentos);
+	
 	Lancamento atualizar(Lancamento lancamento);
 	
 	void deletar(Lancamento lancamento);
 	
 	List<Lancamento> buscar(Lancamento lancamentoFiltro);
 	
+	List<LancamentoResumo> buscarResumos(Lancamento lancamentoFiltro);
+	
+	PaginaDTO<LancamentoResumo> buscar(Lancamento lancamentoFiltro, String cursor, int limite);
+	
+	List<LancamentoResumo> pesquisar(FiltroLancamentoDTO filtro, int limite);
+	
 	void atualizarStatus(Lancamento lancamento, StatusLancamento status);
 	
+	ResultadoStatusDTO atualizarStatus(Long idUsuario, List<Long> ids, StatusLancamento status);
+	
+	ResultadoStatusDTO atualizarStatusDoPeriodo(Long idUsuario, Integer ano, Integer mes, StatusLancamento status);
+	
 	void validar(Lancamento lancamento);
 	
 	Optional<Lancamento> obterPorId(Long id);
 	
 	BigDecimal obterSaldoPorUsuario(Long id);
 	
+	long obterVersao(Long idUsuario);
+	
+	SaldoAnualDTO obterSaldoMensal(Long idUsuario, Integer ano);
+	
+	void exportar(Long idUsuario, FormatoExportacao formato, OutputStream saida) throws IOException;
+	
 }
@@ -0,0 +1,13 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.time.YearMonth;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Recorrencia;
+
+public interface RecorrenciaService {
+
+	Recorrencia salvar(Recorrencia recorrencia);
+	
+	int gerarLote(YearMonth horizonte, int tamanhoLote);
+	
+}
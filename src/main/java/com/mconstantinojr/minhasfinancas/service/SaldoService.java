@@ -0,0 +1,34 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.MovimentoSaldo;
+import com.mconstantinojr.minhasfinancas.model.projection.TotalMensal;
+
+public interface SaldoService {
+
+	void registrar(Lancamento lancamento);
+	
+	void registrar(List<Lancamento> lancamentos);
+	
+	void estornar(MovimentoSaldo movimento);
+	
+	void registrarAlteracao(Long idUsuario);
+	
+	void alterarStatus(Long idUsuario, Collection<Long> ids, StatusLancamento status);
+	
+	long obterVersao(Long idUsuario);
+	
+	BigDecimal obterSaldo(Long idUsuario);
+	
+	List<TotalMensal> obterTotaisMensais(Long idUsuario, Integer ano);
+	
+	void recalcular(Long idUsuario);
+	
+	void recalcularTodos();
+	
+}
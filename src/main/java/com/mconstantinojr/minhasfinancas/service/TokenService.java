@@ -0,0 +1,13 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.util.Optional;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+
+public interface TokenService {
+
+	String gerarToken(Usuario usuario);
+	
+	Optional<Long> obterIdUsuario(String token);
+	
+}
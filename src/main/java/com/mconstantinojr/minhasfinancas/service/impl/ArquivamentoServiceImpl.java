@@ -0,0 +1,92 @@
+package com.mconstantinojr.minhasfinancas.service.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mconstantinojr.minhasfinancas.event.LancamentoAlterado;
+import com.mconstantinojr.minhasfinancas.model.entity.SaldoArquivado;
+import com.mconstantinojr.minhasfinancas.model.entity.SaldoUsuario;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoEventoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoDoUsuario;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoArquivadoRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.SaldoArquivadoRepository;
+import com.mconstantinojr.minhasfinancas.service.ArquivamentoService;
+import com.mconstantinojr.minhasfinancas.service.SaldoService;
+
+/**
+ * Move lançamentos de anos encerrados para a tabela de arquivo, um lote por
+ * transação. As linhas do lote ficam bloqueadas até o commit, então uma
+ * escrita concorrente sobre elas espera e, em seguida, não as encontra mais.
+ * 
+ * O saldo do usuário não muda: os totais movidos são somados ao saldo
+ * arquivado, que o cálculo de saldo combina com os lançamentos da tabela
+ * principal. O resumo mensal também não muda. A versão de cada usuário
+ * afetado é incrementada, pois as listagens sem ano deixam de trazer os
+ * lançamentos arquivados.
+ */
+@Service
+public class ArquivamentoServiceImpl implements ArquivamentoService {
+
+	private final LancamentoRepository lancamentoRepository;
+	
+	private final LancamentoArquivadoRepository arquivoRepository;
+	
+	private final SaldoArquivadoRepository saldoArquivadoRepository;
+	
+	private final SaldoService saldoService;
+	
+	private final ApplicationEventPublisher eventPublisher;
+	
+	public ArquivamentoServiceImpl(LancamentoRepository lancamentoRepository, LancamentoArquivadoRepository arquivoRepository,
+			SaldoArquivadoRepository saldoArquivadoRepository, SaldoService saldoService, 
+			ApplicationEventPublisher eventPublisher) {
+		this.lancamentoRepository = lancamentoRepository;
+		this.arquivoRepository = arquivoRepository;
+		this.saldoArquivadoRepository = saldoArquivadoRepository;
+		this.saldoService = saldoService;
+		this.eventPublisher = eventPublisher;
+	}
+	
+	@Override
+	@Transactional
+	public int arquivarLote(Integer primeiroAnoAberto, int tamanhoLote) {
+		List<LancamentoDoUsuario> lancamentos = lancamentoRepository.obterAnterioresAo(primeiroAnoAberto, Limit.of(tamanhoLote));
+		if (lancamentos.isEmpty()) {
+			return 0;
+		}
+		
+		List<Long> ids = lancamentos.stream().map(LancamentoDoUsuario::id).toList();
+		lancamentoRepository.calcularSaldos(ids).stream()
+			.filter(saldo -> saldo.getIdUsuario() != null)
+			.forEach(this::acumular);
+		
+		arquivoRepository.arquivar(ids);
+		lancamentoRepository.excluir(ids);
+		
+		lancamentos.stream()
+			.filter(lancamento -> lancamento.idUsuario() != null)
+			.collect(Collectors.groupingBy(LancamentoDoUsuario::idUsuario, 
+					Collectors.mapping(LancamentoDoUsuario::id, Collectors.toList())))
+			.forEach((idUsuario, idsDoUsuario) -> {
+				saldoService.registrarAlteracao(idUsuario);
+				eventPublisher.publishEvent(LancamentoAlterado.de(TipoEventoLancamento.ARQUIVADO, idUsuario, idsDoUsuario));
+			});
+		
+		return lancamentos.size();
+	}
+	
+	private void acumular(SaldoUsuario saldo) {
+		Objects.requireNonNull(saldo.getIdUsuario());
+		if (saldoArquivadoRepository.somar(saldo.getIdUsuario(), saldo.getReceitas(), saldo.getDespesas()) == 0) {
+			saldoArquivadoRepository.save(new SaldoArquivado(saldo.getIdUsuario(), saldo.getReceitas(), saldo.getDespesas()));
+		}
+	}
+
+}
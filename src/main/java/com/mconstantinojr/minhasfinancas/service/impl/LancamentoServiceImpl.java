@@ -1,34 +1,116 @@
 package com.mconstantinojr.minhasfinancas.service.impl;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.ExampleMatcher.StringMatcher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.mconstantinojr.minhasfinancas.api.dto.FiltroLancamentoDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.PaginaDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.ResultadoStatusDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.ResumoSaldoDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.SaldoAnualDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.SaldoMensalDTO;
+import com.mconstantinojr.minhasfinancas.config.ArquivamentoProperties;
+import com.mconstantinojr.minhasfinancas.event.LancamentoAlterado;
+import com.mconstantinojr.minhasfinancas.exception.LoteInvalidoException;
 import com.mconstantinojr.minhasfinancas.exception.RegraDeNegocioException;
 import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.LancamentoArquivado;
+import com.mconstantinojr.minhasfinancas.model.enums.FormatoExportacao;
+import com.mconstantinojr.minhasfinancas.model.enums.ResultadoAtualizacaoStatus;
 import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
-import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoEventoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+import com.mconstantinojr.minhasfinancas.model.projection.SituacaoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.TotalMensal;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoArquivadoRepository;
 import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoSpecifications;
 import com.mconstantinojr.minhasfinancas.service.LancamentoService;
+import com.mconstantinojr.minhasfinancas.service.SaldoService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 
 
 @Service
 public class LancamentoServiceImpl implements LancamentoService {
 
+	public static final int LIMITE_MAXIMO_PAGINA = 1000;
+	
+	public static final int TAMANHO_MAXIMO_LOTE = 10000;
+	
+	private static final int TAMANHO_LOTE_JDBC = 50;
+	
+	private static final Set<String> CAMPOS_ORDENACAO = Set.of("ano", "mes", "valor", "descricao", "tipo", "status", "dataCadastro", "id");
+	
+	private static final Comparator<LancamentoResumo> ORDEM_PADRAO = Comparator.comparing(LancamentoResumo::ano)
+			.thenComparing(LancamentoResumo::mes).thenComparing(LancamentoResumo::id);
+	
+	@SuppressWarnings("rawtypes")
+	private static final Map<String, Function<LancamentoResumo, Comparable>> VALORES_ORDENACAO = Map.of(
+			"ano", LancamentoResumo::ano, "mes", LancamentoResumo::mes, "valor", LancamentoResumo::valor,
+			"descricao", LancamentoResumo::descricao, "dataCadastro", LancamentoResumo::dataCadastro, "id", LancamentoResumo::id,
+			"tipo", lancamento -> lancamento.tipo() != null ? lancamento.tipo().name() : null,
+			"status", lancamento -> lancamento.status() != null ? lancamento.status().name() : null);
+	
+	private static final JsonFactory FORMATO_JSON = new JsonFactoryBuilder()
+			.disable(StreamWriteFeature.AUTO_CLOSE_TARGET).rootValueSeparator("").build();
+
 	@Autowired
 	private LancamentoRepository repository;
 	
-	public LancamentoServiceImpl(LancamentoRepository repository) {
+	@Autowired
+	private SaldoService saldoService;
+	
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	
+	@Autowired
+	private LancamentoArquivadoRepository arquivoRepository;
+	
+	@Autowired
+	private ArquivamentoProperties arquivamento;
+	
+	@PersistenceContext
+	private EntityManager entityManager;
+	
+	public LancamentoServiceImpl(LancamentoRepository repository, SaldoService saldoService) {
 		this.repository = repository;
+		this.saldoService = saldoService;
 	}
 	
 	@Override
@@ -36,7 +118,56 @@ public class LancamentoServiceImpl implements LancamentoService {
 	public Lancamento salvar(Lancamento lancamento) {
 		validar(lancamento);
 		lancamento.setStatus(StatusLancamento.PENDENTE);
-		return repository.save(lancamento);
+		TipoEventoLancamento evento = TipoEventoLancamento.CRIADO;
+		if (lancamento.getId() != null) {
+			evento = TipoEventoLancamento.ATUALIZADO;
+			repository.obterMovimento(lancamento.getId()).ifPresent(saldoService::estornar);
+		}
+		saldoService.registrar(lancamento);
+		Lancamento lancamentoSalvo = repository.save(lancamento);
+		repository.flush();
+		publicar(evento, lancamentoSalvo);
+		return lancamentoSalvo;
+	}
+
+	@Override
+	@Transactional
+	public int salvarEmLote(List<Lancamento> lancamentos) {
+		if (lancamentos.isEmpty() || lancamentos.size() > TAMANHO_MAXIMO_LOTE) {
+			throw new RegraDeNegocioException("O lote deve conter entre 1 e " + TAMANHO_MAXIMO_LOTE + " lançamentos.");
+		}
+		
+		Map<Integer, String> erros = new TreeMap<>();
+		for (int i = 0; i < lancamentos.size(); i++) {
+			try {
+				validar(lancamentos.get(i));
+			} catch (RegraDeNegocioException e) {
+				erros.put(i, e.getMessage());
+			}
+		}
+		
+		if (!erros.isEmpty()) {
+			throw new LoteInvalidoException(erros);
+		}
+		
+		lancamentos.forEach(lancamento -> lancamento.setStatus(StatusLancamento.PENDENTE));
+		saldoService.registrar(lancamentos);
+		
+		for (int inicio = 0; inicio < lancamentos.size(); inicio += TAMANHO_LOTE_JDBC) {
+			List<Lancamento> parte = lancamentos.subList(inicio, Math.min(inicio + TAMANHO_LOTE_JDBC, lancamentos.size()));
+			repository.saveAll(parte);
+			entityManager.flush();
+			entityManager.clear();
+		}
+		
+		lancamentos.stream()
+			.filter(lancamento -> lancamento.getId() != null)
+			.collect(Collectors.groupingBy(lancamento -> lancamento.getUsuario().getId(), 
+					Collectors.mapping(Lancamento::getId, Collectors.toList())))
+			.forEach((idUsuario, ids) -> eventPublisher.publishEvent(
+					LancamentoAlterado.de(TipoEventoLancamento.CRIADO, idUsuario, ids)));
+		
+		return lancamentos.size();
 	}
 
 	@Override
@@ -44,14 +175,22 @@ public class LancamentoServiceImpl implements LancamentoService {
 	public Lancamento atualizar(Lancamento lancamento) {
 		Objects.requireNonNull(lancamento.getId());
 		validar(lancamento);
-		return repository.save(lancamento);
+		repository.obterMovimento(lancamento.getId()).ifPresent(saldoService::estornar);
+		saldoService.registrar(lancamento);
+		Lancamento lancamentoAtualizado = repository.save(lancamento);
+		repository.flush();
+		publicar(TipoEventoLancamento.ATUALIZADO, lancamentoAtualizado);
+		return lancamentoAtualizado;
 	}
 
 	@Override
 	@Transactional
 	public void deletar(Lancamento lancamento) {
 		Objects.requireNonNull(lancamento.getId());
+		repository.obterMovimento(lancamento.getId()).ifPresent(saldoService::estornar);
 		repository.delete(lancamento);
+		repository.flush();
+		publicar(TipoEventoLancamento.EXCLUIDO, lancamento);
 	}
 
 	@Override
@@ -63,11 +202,178 @@ public class LancamentoServiceImpl implements LancamentoService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public List<LancamentoResumo> buscarResumos(Lancamento lancamentoFiltro) {
+		List<LancamentoResumo> lancamentos = repository.buscarResumos(lancamentoFiltro.getUsuario().getId(), 
+				lancamentoFiltro.getDescricao(), lancamentoFiltro.getMes(), lancamentoFiltro.getAno());
+		
+		if (!arquivado(lancamentoFiltro.getAno())) {
+			return lancamentos;
+		}
+		
+		return mesclar(arquivoRepository.buscarResumos(lancamentoFiltro.getUsuario().getId(), lancamentoFiltro.getDescricao(), 
+				lancamentoFiltro.getMes(), lancamentoFiltro.getAno()), lancamentos, ORDEM_PADRAO, Integer.MAX_VALUE);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PaginaDTO<LancamentoResumo> buscar(Lancamento lancamentoFiltro, String cursor, int limite) {
+		if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+			throw new RegraDeNegocioException("informe um limite entre 1 e " + LIMITE_MAXIMO_PAGINA + ".");
+		}
+		
+		long[] posicao = decodificarCursor(cursor);
+		
+		List<LancamentoResumo> lancamentos = repository.buscarPagina(lancamentoFiltro.getUsuario().getId(),
+				lancamentoFiltro.getDescricao(), lancamentoFiltro.getMes(), lancamentoFiltro.getAno(),
+				(int) posicao[0], (int) posicao[1], posicao[2], Limit.of(limite + 1));
+		
+		if (arquivado(lancamentoFiltro.getAno())) {
+			lancamentos = mesclar(arquivoRepository.buscarPagina(lancamentoFiltro.getUsuario().getId(),
+					lancamentoFiltro.getDescricao(), lancamentoFiltro.getMes(), lancamentoFiltro.getAno(),
+					(int) posicao[0], (int) posicao[1], posicao[2], Limit.of(limite + 1)), lancamentos, ORDEM_PADRAO, limite + 1);
+		}
+		
+		String proximo = null;
+		if (lancamentos.size() > limite) {
+			lancamentos = lancamentos.subList(0, limite);
+			proximo = codificarCursor(lancamentos.get(limite - 1));
+		}
+		
+		return new PaginaDTO<>(lancamentos, proximo);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<LancamentoResumo> pesquisar(FiltroLancamentoDTO filtro, int limite) {
+		if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+			throw new RegraDeNegocioException("informe um limite entre 1 e " + LIMITE_MAXIMO_PAGINA + ".");
+		}
+		
+		if (filtro.getUsuario() == null) {
+			throw new RegraDeNegocioException("informe um Usuário.");
+		}
+		
+		if (filtro.getDe() != null && filtro.getAte() != null && filtro.getDe().isAfter(filtro.getAte())) {
+			throw new RegraDeNegocioException("informe um período válido.");
+		}
+		
+		Sort ordem = ordenacao(filtro.getOrdenacao());
+		List<LancamentoResumo> lancamentos = repository.pesquisar(LancamentoSpecifications.filtrar(filtro), ordem, limite);
+		
+		if (!arquivado(filtro.getDe() != null ? filtro.getDe().getYear() : null) 
+				&& !arquivado(filtro.getAte() != null ? filtro.getAte().getYear() : null)) {
+			return lancamentos;
+		}
+		
+		return mesclar(repository.pesquisarArquivados(LancamentoSpecifications.filtrar(filtro), ordem, limite), 
+				lancamentos, comparador(ordem), limite);
+	}
+	
+	/*
+	 * Anos encerrados podem estar no arquivo, na tabela principal (antes do
+	 * arquivamento chegar a eles) ou em ambos, então são lidos das duas tabelas.
+	 * Consultas sem ano, ou só de anos abertos, leem apenas a tabela principal.
+	 */
+	private boolean arquivado(Integer ano) {
+		return ano != null && ano < arquivamento.primeiroAnoAberto();
+	}
+	
+	private static List<LancamentoResumo> mesclar(List<LancamentoResumo> arquivados, List<LancamentoResumo> lancamentos,
+			Comparator<LancamentoResumo> ordem, int limite) {
+		if (arquivados.isEmpty()) {
+			return lancamentos;
+		}
+		
+		List<LancamentoResumo> todos = new ArrayList<>(arquivados.size() + lancamentos.size());
+		todos.addAll(arquivados);
+		todos.addAll(lancamentos);
+		todos.sort(ordem);
+		return todos.size() > limite ? todos.subList(0, limite) : todos;
+	}
+	
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Comparator<LancamentoResumo> comparador(Sort ordem) {
+		Comparator<LancamentoResumo> comparador = null;
+		for (Sort.Order ordemCampo : ordem) {
+			Comparator<LancamentoResumo> campo = Comparator.comparing(VALORES_ORDENACAO.get(ordemCampo.getProperty()), 
+					Comparator.nullsFirst(Comparator.naturalOrder()));
+			if (ordemCampo.isDescending()) {
+				campo = campo.reversed();
+			}
+			comparador = comparador == null ? campo : comparador.thenComparing(campo);
+		}
+		return comparador;
+	}
+
+	@Override
+	@Transactional
 	public void atualizarStatus(Lancamento lancamento, StatusLancamento status) {
 		lancamento.setStatus(status);
 		atualizar(lancamento);
 	}
 
+	@Override
+	@Transactional
+	public ResultadoStatusDTO atualizarStatus(Long idUsuario, List<Long> ids, StatusLancamento status) {
+		if (ids == null || ids.isEmpty() || ids.size() > TAMANHO_MAXIMO_LOTE) {
+			throw new RegraDeNegocioException("informe entre 1 e " + TAMANHO_MAXIMO_LOTE + " lançamentos.");
+		}
+		
+		return atualizarStatus(idUsuario, ids, repository.obterSituacoes(idUsuario, ids), status);
+	}
+
+	@Override
+	@Transactional
+	public ResultadoStatusDTO atualizarStatusDoPeriodo(Long idUsuario, Integer ano, Integer mes, StatusLancamento status) {
+		if (ano == null) {
+			throw new RegraDeNegocioException("informe um Ano válido.");
+		}
+		
+		List<SituacaoLancamento> situacoes = repository.obterSituacoesDoPeriodo(idUsuario, ano, mes);
+		if (situacoes.size() > TAMANHO_MAXIMO_LOTE) {
+			throw new RegraDeNegocioException("O período possui mais de " + TAMANHO_MAXIMO_LOTE + " lançamentos.");
+		}
+		
+		return atualizarStatus(idUsuario, situacoes.stream().map(SituacaoLancamento::id).toList(), situacoes, status);
+	}
+	
+	private ResultadoStatusDTO atualizarStatus(Long idUsuario, List<Long> ids, List<SituacaoLancamento> situacoes, 
+			StatusLancamento status) {
+		if (status == null) {
+			throw new RegraDeNegocioException("informe um status válido.");
+		}
+		
+		Map<Long, ResultadoAtualizacaoStatus> resultados = new LinkedHashMap<>();
+		ids.forEach(id -> resultados.put(id, ResultadoAtualizacaoStatus.NAO_ENCONTRADO));
+		
+		List<Long> alterados = new ArrayList<>(situacoes.size());
+		for (SituacaoLancamento situacao : situacoes) {
+			if (situacao.status() == status) {
+				resultados.put(situacao.id(), ResultadoAtualizacaoStatus.INALTERADO);
+			} else {
+				resultados.put(situacao.id(), ResultadoAtualizacaoStatus.ATUALIZADO);
+				alterados.add(situacao.id());
+			}
+		}
+		
+		int atualizados = 0;
+		if (!alterados.isEmpty()) {
+			saldoService.alterarStatus(idUsuario, alterados, status);
+			atualizados = repository.atualizarStatus(idUsuario, alterados, status);
+			eventPublisher.publishEvent(LancamentoAlterado.de(TipoEventoLancamento.STATUS_ALTERADO, idUsuario, alterados));
+		}
+		
+		return new ResultadoStatusDTO(atualizados, resultados);
+	}
+
+	private void publicar(TipoEventoLancamento tipo, Lancamento lancamento) {
+		if (lancamento != null && lancamento.getId() != null && lancamento.getUsuario() != null) {
+			eventPublisher.publishEvent(LancamentoAlterado.de(tipo, lancamento.getUsuario().getId(), 
+					List.of(lancamento.getId())));
+		}
+	}
+
 	@Override
 	public void validar(Lancamento lancamento) {
 		
@@ -104,20 +410,157 @@ public class LancamentoServiceImpl implements LancamentoService {
 	@Override
 	@Transactional(readOnly = true)
 	public BigDecimal obterSaldoPorUsuario(Long id) {
-		BigDecimal receitas = repository.obterSaldoPorTipoLancamentoEUsuario(id, TipoLancamento.RECEITA);
-		BigDecimal despesas = repository.obterSaldoPorTipoLancamentoEUsuario(id, TipoLancamento.DESPESA);
+		return saldoService.obterSaldo(id);
+	}
+
+	@Override
+	public long obterVersao(Long idUsuario) {
+		return saldoService.obterVersao(idUsuario);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public SaldoAnualDTO obterSaldoMensal(Long idUsuario, Integer ano) {
+		SaldoAnualDTO saldoAnual = SaldoAnualDTO.builder().ano(ano).build();
+		for (int mes = 1; mes <= 12; mes++) {
+			saldoAnual.getMeses().add(SaldoMensalDTO.builder().mes(mes).build());
+		}
 		
-		if (receitas == null) {
-			receitas = BigDecimal.ZERO;
+		for (TotalMensal total : saldoService.obterTotaisMensais(idUsuario, ano)) {
+			SaldoMensalDTO saldoMensal = saldoAnual.getMeses().get(total.mes() - 1);
+			saldoMensal.getTotal().somar(total.tipo(), total.total());
+			saldoMensal.getPorStatus().computeIfAbsent(total.status(), status -> new ResumoSaldoDTO()).somar(total.tipo(), total.total());
+			saldoAnual.getTotal().somar(total.tipo(), total.total());
 		}
-
-		if (despesas == null) {
-			despesas = BigDecimal.ZERO;
+		
+		return saldoAnual;
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public void exportar(Long idUsuario, FormatoExportacao formato, OutputStream saida) throws IOException {
+		Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+		JsonGenerator gerador = FORMATO_JSON.createGenerator(escritor);
+		
+		if (formato == FormatoExportacao.CSV) {
+			escritor.write("id;descricao;mes;ano;valor;tipo;status;data_cadastro\n");
+		}
+		
+		try (Stream<LancamentoArquivado> arquivados = arquivoRepository.exportarPorUsuario(idUsuario);
+				Stream<Lancamento> ativos = repository.exportarPorUsuario(idUsuario)) {
+			Stream<Lancamento> lancamentos = Stream.concat(arquivados.map(arquivado -> {
+				entityManager.detach(arquivado);
+				return arquivado.paraLancamento();
+			}), ativos);
+			Iterator<Lancamento> iterador = lancamentos.iterator();
+			while (iterador.hasNext()) {
+				Lancamento lancamento = iterador.next();
+				if (formato == FormatoExportacao.CSV) {
+					escreverCsv(escritor, lancamento);
+				} else {
+					escreverJson(gerador, lancamento);
+					gerador.writeRaw('\n');
+				}
+				entityManager.detach(lancamento);
+			}
+		}
+		
+		gerador.flush();
+		escritor.flush();
+	}
+	
+	private static void escreverCsv(Writer escritor, Lancamento lancamento) throws IOException {
+		escritor.write(String.valueOf(lancamento.getId()));
+		escritor.write(';');
+		escritor.write(campoCsv(lancamento.getDescricao()));
+		escritor.write(';');
+		escritor.write(String.valueOf(lancamento.getMes()));
+		escritor.write(';');
+		escritor.write(String.valueOf(lancamento.getAno()));
+		escritor.write(';');
+		escritor.write(lancamento.getValor().toPlainString());
+		escritor.write(';');
+		escritor.write(campoCsv(lancamento.getTipo()));
+		escritor.write(';');
+		escritor.write(campoCsv(lancamento.getStatus()));
+		escritor.write(';');
+		escritor.write(campoCsv(lancamento.getDataCadastro()));
+		escritor.write('\n');
+	}
+	
+	private static String campoCsv(Object valor) {
+		if (valor == null) {
+			return "";
 		}
-
-		return receitas.subtract(despesas);
 		
+		String texto = valor.toString();
+		if (texto.contains(";") || texto.contains("\"") || texto.contains("\n") || texto.contains("\r")) {
+			return "\"" + texto.replace("\"", "\"\"") + "\"";
+		}
+		return texto;
+	}
+	
+	private static void escreverJson(JsonGenerator gerador, Lancamento lancamento) throws IOException {
+		gerador.writeStartObject();
+		gerador.writeNumberField("id", lancamento.getId());
+		gerador.writeStringField("descricao", lancamento.getDescricao());
+		gerador.writeNumberField("mes", lancamento.getMes());
+		gerador.writeNumberField("ano", lancamento.getAno());
+		gerador.writeNumberField("valor", lancamento.getValor());
+		gerador.writeNumberField("usuario", lancamento.getUsuario().getId());
+		gerador.writeStringField("tipo", lancamento.getTipo() != null ? lancamento.getTipo().name() : null);
+		gerador.writeStringField("status", lancamento.getStatus() != null ? lancamento.getStatus().name() : null);
+		gerador.writeStringField("dataCadastro", lancamento.getDataCadastro() != null ? lancamento.getDataCadastro().toString() : null);
+		gerador.writeEndObject();
+	}
+	
+	private static Sort ordenacao(List<String> chaves) {
+		List<Sort.Order> ordens = new ArrayList<>();
+		
+		if (chaves != null) {
+			for (String chave : chaves) {
+				boolean decrescente = chave.startsWith("-");
+				String campo = decrescente ? chave.substring(1) : chave;
+				
+				if (!CAMPOS_ORDENACAO.contains(campo)) {
+					throw new RegraDeNegocioException("Campo de ordenação inválido: " + campo + ".");
+				}
+				
+				ordens.add(decrescente ? Sort.Order.desc(campo) : Sort.Order.asc(campo));
+			}
+		}
+		
+		if (ordens.isEmpty()) {
+			ordens.add(Sort.Order.asc("ano"));
+			ordens.add(Sort.Order.asc("mes"));
+		}
 		
+		if (ordens.stream().noneMatch(ordem -> ordem.getProperty().equals("id"))) {
+			ordens.add(Sort.Order.asc("id"));
+		}
+		
+		return Sort.by(ordens);
+	}
+	
+	private static String codificarCursor(LancamentoResumo lancamento) {
+		String posicao = lancamento.ano() + ":" + lancamento.mes() + ":" + lancamento.id();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(posicao.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	private static long[] decodificarCursor(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return new long[] { 0, 0, 0 };
+		}
+		
+		try {
+			String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+			if (partes.length != 3) {
+				throw new IllegalArgumentException();
+			}
+			return new long[] { Integer.parseInt(partes[0]), Integer.parseInt(partes[1]), Long.parseLong(partes[2]) };
+		} catch (IllegalArgumentException e) {
+			throw new RegraDeNegocioException("Cursor de paginação inválido.");
+		}
 	}
 
 }
@@ -0,0 +1,91 @@
+package com.mconstantinojr.minhasfinancas.service.impl;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mconstantinojr.minhasfinancas.config.RecorrenciaProperties;
+import com.mconstantinojr.minhasfinancas.exception.RegraDeNegocioException;
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Recorrencia;
+import com.mconstantinojr.minhasfinancas.model.repository.RecorrenciaRepository;
+import com.mconstantinojr.minhasfinancas.service.LancamentoService;
+import com.mconstantinojr.minhasfinancas.service.RecorrenciaService;
+
+/**
+ * Gera os lançamentos das recorrências pelo salvamento em lote de
+ * lançamentos, de modo que saldo, versão, resumo mensal e eventos seguem o
+ * mesmo caminho de um lote enviado pela API.
+ * 
+ * As recorrências pendentes ficam bloqueadas até o commit e a próxima parcela
+ * avança na mesma transação dos lançamentos gerados, então uma competência é
+ * gerada uma única vez mesmo com várias instâncias ou reinícios no meio do
+ * processo. A restrição única (id_recorrencia, parcela) garante o mesmo no
+ * banco.
+ */
+@Service
+public class RecorrenciaServiceImpl implements RecorrenciaService {
+
+	private final RecorrenciaRepository repository;
+	
+	private final LancamentoService lancamentoService;
+	
+	private final RecorrenciaProperties propriedades;
+	
+	public RecorrenciaServiceImpl(RecorrenciaRepository repository, LancamentoService lancamentoService,
+			RecorrenciaProperties propriedades) {
+		this.repository = repository;
+		this.lancamentoService = lancamentoService;
+		this.propriedades = propriedades;
+	}
+	
+	@Override
+	@Transactional
+	public Recorrencia salvar(Recorrencia recorrencia) {
+		if (recorrencia.getParcelas() != null && recorrencia.getParcelas() < 1) {
+			throw new RegraDeNegocioException("informe um número de Parcelas válido.");
+		}
+		
+		lancamentoService.validar(Lancamento.builder().descricao(recorrencia.getDescricao()).ano(recorrencia.getAnoInicio())
+				.mes(recorrencia.getMesInicio()).valor(recorrencia.getValor()).tipo(recorrencia.getTipo())
+				.usuario(recorrencia.getUsuario()).build());
+		
+		recorrencia.setProximaParcela(1);
+		recorrencia.setDataCadastro(LocalDate.now());
+		Recorrencia recorrenciaSalva = repository.save(recorrencia);
+		gerar(List.of(recorrenciaSalva), propriedades.horizonte());
+		return recorrenciaSalva;
+	}
+
+	@Override
+	@Transactional
+	public int gerarLote(YearMonth horizonte, int tamanhoLote) {
+		List<Recorrencia> pendentes = repository.obterPendentes(horizonte.getYear() * 12 + horizonte.getMonthValue() - 1, 
+				Limit.of(tamanhoLote));
+		return gerar(pendentes, horizonte);
+	}
+	
+	private int gerar(List<Recorrencia> recorrencias, YearMonth horizonte) {
+		List<Lancamento> lancamentos = new ArrayList<>();
+		for (Recorrencia recorrencia : recorrencias) {
+			while (lancamentos.size() < LancamentoServiceImpl.TAMANHO_MAXIMO_LOTE && !recorrencia.isEncerrada()
+					&& !recorrencia.competencia(recorrencia.getProximaParcela()).isAfter(horizonte)) {
+				lancamentos.add(recorrencia.gerarParcela());
+			}
+		}
+		
+		if (lancamentos.isEmpty()) {
+			return 0;
+		}
+		
+		// o lote limpa o contexto de persistência; a próxima parcela é gravada antes
+		repository.flush();
+		return lancamentoService.salvarEmLote(lancamentos);
+	}
+
+}
@@ -0,0 +1,226 @@
+package com.mconstantinojr.minhasfinancas.service.impl;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.ResumoMensal;
+import com.mconstantinojr.minhasfinancas.model.entity.ResumoMensalId;
+import com.mconstantinojr.minhasfinancas.model.entity.SaldoUsuario;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.MovimentoSaldo;
+import com.mconstantinojr.minhasfinancas.model.projection.TotalMensal;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoArquivadoRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.ResumoMensalRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.SaldoArquivadoRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.SaldoUsuarioRepository;
+import com.mconstantinojr.minhasfinancas.service.SaldoService;
+
+/**
+ * Mantém o saldo de cada usuário em uma linha própria, atualizada na mesma
+ * transação das escritas de lançamento. Deve ser chamado antes da escrita:
+ * se o usuário ainda não possui linha de saldo, ela é criada a partir dos
+ * lançamentos já gravados no banco e o movimento é aplicado em seguida. Por
+ * isso as escritas de lançamento fazem flush ao final.
+ * 
+ * A versão da linha é incrementada a cada escrita do usuário e serve de
+ * validador para as respostas condicionais (ETag) de saldo e lançamentos.
+ * 
+ * Da mesma forma mantém o resumo mensal (soma e quantidade por ano, mês, tipo
+ * e status), de onde saem os totais mensais sem varrer os lançamentos.
+ * 
+ * As linhas de saldo e de resumo são criadas com "on duplicate key update": se
+ * outra transação criou a linha antes, só o movimento é somado a ela.
+ * 
+ * Lançamentos arquivados não mudam mais: entram nos cálculos a partir do
+ * saldo arquivado do usuário e, no resumo, dos totais da tabela de arquivo.
+ */
+@Service
+public class SaldoServiceImpl implements SaldoService {
+
+	@Autowired
+	private SaldoUsuarioRepository repository;
+	
+	@Autowired
+	private LancamentoRepository lancamentoRepository;
+	
+	@Autowired
+	private ResumoMensalRepository resumoRepository;
+	
+	@Autowired
+	private SaldoArquivadoRepository saldoArquivadoRepository;
+	
+	@Autowired
+	private LancamentoArquivadoRepository arquivoRepository;
+	
+	public SaldoServiceImpl(SaldoUsuarioRepository repository, LancamentoRepository lancamentoRepository, 
+			ResumoMensalRepository resumoRepository, SaldoArquivadoRepository saldoArquivadoRepository,
+			LancamentoArquivadoRepository arquivoRepository) {
+		this.repository = repository;
+		this.lancamentoRepository = lancamentoRepository;
+		this.resumoRepository = resumoRepository;
+		this.saldoArquivadoRepository = saldoArquivadoRepository;
+		this.arquivoRepository = arquivoRepository;
+	}
+	
+	@Override
+	@Transactional
+	public void registrar(Lancamento lancamento) {
+		movimentar(lancamento.getUsuario().getId(), lancamento.getTipo(), lancamento.getValor());
+		resumir(chave(lancamento), lancamento.getValor(), 1);
+	}
+
+	@Override
+	@Transactional
+	public void registrar(List<Lancamento> lancamentos) {
+		Map<Long, Map<TipoLancamento, BigDecimal>> movimentos = lancamentos.stream()
+				.collect(Collectors.groupingBy(lancamento -> lancamento.getUsuario().getId(),
+						Collectors.groupingBy(Lancamento::getTipo, 
+								Collectors.reducing(BigDecimal.ZERO, Lancamento::getValor, BigDecimal::add))));
+		
+		movimentos.forEach((idUsuario, porTipo) -> porTipo.forEach((tipo, valor) -> movimentar(idUsuario, tipo, valor)));
+		
+		Map<ResumoMensalId, ResumoMensal> resumos = new HashMap<>();
+		for (Lancamento lancamento : lancamentos) {
+			resumos.computeIfAbsent(chave(lancamento), ResumoMensal::zerado).somar(lancamento.getValor(), 1);
+		}
+		
+		resumos.forEach((chave, resumo) -> resumir(chave, resumo.getTotal(), resumo.getQuantidade()));
+	}
+
+	@Override
+	@Transactional
+	public void estornar(MovimentoSaldo movimento) {
+		movimentar(movimento.idUsuario(), movimento.tipo(), movimento.valor().negate());
+		resumir(chave(movimento, movimento.status()), movimento.valor().negate(), -movimento.quantidade());
+	}
+
+	@Override
+	@Transactional
+	public void registrarAlteracao(Long idUsuario) {
+		if (repository.incrementarVersao(idUsuario) == 0) {
+			recalcular(idUsuario);
+		}
+	}
+
+	@Override
+	@Transactional
+	public void alterarStatus(Long idUsuario, Collection<Long> ids, StatusLancamento status) {
+		for (MovimentoSaldo movimento : lancamentoRepository.obterMovimentos(idUsuario, ids, status)) {
+			resumir(chave(movimento, movimento.status()), movimento.valor().negate(), -movimento.quantidade());
+			resumir(chave(movimento, status), movimento.valor(), movimento.quantidade());
+		}
+		registrarAlteracao(idUsuario);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long obterVersao(Long idUsuario) {
+		return repository.obterVersao(idUsuario).orElse(0L);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BigDecimal obterSaldo(Long idUsuario) {
+		return repository.obterSaldo(idUsuario).orElseGet(() -> calcularSaldo(idUsuario).getSaldo());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<TotalMensal> obterTotaisMensais(Long idUsuario, Integer ano) {
+		return resumoRepository.obterTotaisMensais(idUsuario, ano);
+	}
+
+	@Override
+	@Transactional
+	public void recalcular(Long idUsuario) {
+		SaldoUsuario saldo = calcularSaldo(idUsuario);
+		saldo.setVersao(obterVersao(idUsuario) + 1);
+		repository.save(saldo);
+		
+		resumoRepository.excluirPorUsuario(idUsuario);
+		resumoRepository.calcularPorUsuario(idUsuario);
+		arquivoRepository.calcularResumos(idUsuario).forEach(this::resumir);
+	}
+
+	@Override
+	@Transactional
+	public void recalcularTodos() {
+		long versao = repository.obterMaiorVersao() + 1;
+		Map<Long, SaldoUsuario> saldos = new HashMap<>();
+		lancamentoRepository.calcularSaldos().forEach(saldo -> saldos.put(saldo.getIdUsuario(), saldo));
+		saldoArquivadoRepository.findAll().forEach(arquivado -> saldos.computeIfAbsent(arquivado.getIdUsuario(), 
+				SaldoUsuario::zerado).somar(arquivado.getReceitas(), arquivado.getDespesas()));
+		saldos.values().forEach(saldo -> saldo.setVersao(versao));
+		
+		repository.excluirTodos();
+		repository.saveAll(saldos.values());
+		
+		resumoRepository.excluirTodos();
+		resumoRepository.calcularTodos();
+		arquivoRepository.calcularResumos().forEach(this::resumir);
+	}
+	
+	private void movimentar(Long idUsuario, TipoLancamento tipo, BigDecimal valor) {
+		int atualizados = tipo == TipoLancamento.RECEITA 
+				? repository.somarReceitas(idUsuario, valor) 
+				: repository.somarDespesas(idUsuario, valor);
+		
+		if (atualizados == 0) {
+			SaldoUsuario saldo = calcularSaldo(idUsuario);
+			saldo.movimentar(tipo, valor);
+			boolean receita = tipo == TipoLancamento.RECEITA;
+			repository.criarOuMovimentar(idUsuario, saldo.getReceitas(), saldo.getDespesas(), saldo.getVersao(), 
+					receita ? valor : BigDecimal.ZERO, receita ? BigDecimal.ZERO : valor);
+		}
+	}
+	
+	private SaldoUsuario calcularSaldo(Long idUsuario) {
+		SaldoUsuario saldo = lancamentoRepository.calcularSaldo(idUsuario).orElseGet(() -> SaldoUsuario.zerado(idUsuario));
+		saldoArquivadoRepository.findById(idUsuario)
+			.ifPresent(arquivado -> saldo.somar(arquivado.getReceitas(), arquivado.getDespesas()));
+		return saldo;
+	}
+	
+	private void resumir(ResumoMensal resumo) {
+		resumir(new ResumoMensalId(resumo.getIdUsuario(), resumo.getAno(), resumo.getMes(), resumo.getTipo(), 
+				resumo.getStatus()), resumo.getTotal(), resumo.getQuantidade());
+	}
+	
+	private void resumir(ResumoMensalId chave, BigDecimal valor, long quantidade) {
+		if (chave.getStatus() == null) {
+			return;
+		}
+		
+		int atualizados = resumoRepository.somar(chave.getIdUsuario(), chave.getAno(), chave.getMes(), 
+				chave.getTipo(), chave.getStatus(), valor, quantidade);
+		
+		if (atualizados == 0) {
+			ResumoMensal resumo = lancamentoRepository.calcularResumo(chave.getIdUsuario(), chave.getAno(), 
+					chave.getMes(), chave.getTipo(), chave.getStatus()).orElseGet(() -> ResumoMensal.zerado(chave));
+			resumo.somar(valor, quantidade);
+			resumoRepository.criarOuSomar(chave.getIdUsuario(), chave.getAno(), chave.getMes(), chave.getTipo().name(), 
+					chave.getStatus().name(), resumo.getTotal(), resumo.getQuantidade(), valor, quantidade);
+		}
+	}
+	
+	private static ResumoMensalId chave(Lancamento lancamento) {
+		return new ResumoMensalId(lancamento.getUsuario().getId(), lancamento.getAno(), lancamento.getMes(), 
+				lancamento.getTipo(), lancamento.getStatus());
+	}
+	
+	private static ResumoMensalId chave(MovimentoSaldo movimento, StatusLancamento status) {
+		return new ResumoMensalId(movimento.idUsuario(), movimento.ano(), movimento.mes(), movimento.tipo(), status);
+	}
+
+}
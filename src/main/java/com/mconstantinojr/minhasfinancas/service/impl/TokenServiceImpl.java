@@ -0,0 +1,99 @@
+package com.mconstantinojr.minhasfinancas.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.service.TokenService;
+
+@Service
+public class TokenServiceImpl implements TokenService {
+
+	private static final Logger log = LoggerFactory.getLogger(TokenServiceImpl.class);
+	
+	private static final String ALGORITMO = "HmacSHA256";
+	
+	private final SecretKeySpec chave;
+	
+	private final Duration validade;
+	
+	public TokenServiceImpl(@Value("${minhasfinancas.token.segredo:}") String segredo,
+			@Value("${minhasfinancas.token.validade:PT8H}") Duration validade) {
+		boolean semSegredo = segredo == null || segredo.isBlank();
+		if (semSegredo) {
+			log.warn("minhasfinancas.token.segredo não configurado, usando um segredo aleatório: os tokens valem apenas "
+					+ "para esta instância e até o próximo restart.");
+		}
+		this.chave = new SecretKeySpec(semSegredo ? segredoAleatorio() : segredo.getBytes(StandardCharsets.UTF_8), ALGORITMO);
+		this.validade = validade;
+	}
+	
+	@Override
+	public String gerarToken(Usuario usuario) {
+		long expiracao = Instant.now().plus(validade).getEpochSecond();
+		String conteudo = codificar((usuario.getId() + ":" + expiracao).getBytes(StandardCharsets.UTF_8));
+		return conteudo + "." + codificar(assinar(conteudo));
+	}
+
+	@Override
+	public Optional<Long> obterIdUsuario(String token) {
+		int separador = token == null ? -1 : token.indexOf('.');
+		if (separador < 1) {
+			return Optional.empty();
+		}
+		
+		String conteudo = token.substring(0, separador);
+		try {
+			byte[] assinatura = Base64.getUrlDecoder().decode(token.substring(separador + 1));
+			if (!MessageDigest.isEqual(assinar(conteudo), assinatura)) {
+				return Optional.empty();
+			}
+			
+			String[] partes = new String(Base64.getUrlDecoder().decode(conteudo), StandardCharsets.UTF_8).split(":");
+			if (partes.length != 2 || Long.parseLong(partes[1]) < Instant.now().getEpochSecond()) {
+				return Optional.empty();
+			}
+			
+			return Optional.of(Long.valueOf(partes[0]));
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+	
+	private byte[] assinar(String conteudo) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITMO);
+			mac.init(chave);
+			return mac.doFinal(conteudo.getBytes(StandardCharsets.US_ASCII));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static String codificar(byte[] bytes) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+	
+	/*
+	 * Sem segredo configurado os tokens valem apenas para esta instância e até o próximo restart.
+	 */
+	private static byte[] segredoAleatorio() {
+		byte[] segredo = new byte[32];
+		new SecureRandom().nextBytes(segredo);
+		return segredo;
+	}
+}
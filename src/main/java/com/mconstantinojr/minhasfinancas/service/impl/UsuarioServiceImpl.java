@@ -5,6 +5,9 @@ package com.mconstantinojr.minhasfinancas.service.impl;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import com.mconstantinojr.minhasfinancas.exception.ErroAutenticacao;
@@ -45,6 +48,10 @@ public class UsuarioServiceImpl implements UsuarioService {
 
 	@Override
 	@Transactional
+	@Caching(evict = {
+			@CacheEvict(cacheNames = "usuariosPorEmail", key = "#usuario.email", condition = "#usuario.email != null"),
+			@CacheEvict(cacheNames = "usuarios", key = "#result.id")
+	})
 	public Usuario salvarUsuario(Usuario usuario) {
 		validarEmail(usuario.getEmail());
 		return repository.save(usuario);
@@ -60,6 +67,7 @@ public class UsuarioServiceImpl implements UsuarioService {
 	}
 
 	@Override
+	@Cacheable(cacheNames = "usuarios", key = "#id", unless = "#result == null")
 	public Optional<Usuario> obterPorId(Long id) {
 
 		Optional<Usuario> retorno = repository.findById(id);
@@ -67,4 +75,9 @@ public class UsuarioServiceImpl implements UsuarioService {
 		return retorno;
 	}
 
+	@Override
+	public Usuario obterReferencia(Long id) {
+		return repository.getReferenceById(id);
+	}
+
 }
@@ -0,0 +1,20 @@
+create table financas.usuario (
+	id bigint not null auto_increment,
+	nome varchar(255),
+	email varchar(255),
+	senha varchar(255),
+	constraint pk_usuario primary key (id)
+);
+
+create table financas.lancamento (
+	id bigint not null auto_increment,
+	descricao varchar(255),
+	mes integer,
+	ano integer,
+	id_usuario bigint,
+	valor decimal(16,2),
+	data_cadastro date,
+	tipo varchar(20),
+	status varchar(20),
+	constraint pk_lancamento primary key (id)
+);
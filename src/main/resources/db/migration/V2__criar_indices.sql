@@ -0,0 +1,7 @@
+alter table financas.usuario add constraint uk_usuario_email unique (email);
+
+create index idx_lancamento_usuario_ano_mes on financas.lancamento (id_usuario, ano, mes);
+
+create index idx_lancamento_usuario_tipo on financas.lancamento (id_usuario, tipo, valor);
+
+alter table financas.lancamento add constraint fk_lancamento_usuario foreign key (id_usuario) references financas.usuario (id);
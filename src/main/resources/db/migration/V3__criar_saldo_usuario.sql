@@ -0,0 +1,7 @@
+create table financas.saldo_usuario (
+	id_usuario bigint not null,
+	receitas decimal(19,2) not null,
+	despesas decimal(19,2) not null,
+	constraint pk_saldo_usuario primary key (id_usuario),
+	constraint fk_saldo_usuario_usuario foreign key (id_usuario) references financas.usuario (id)
+);
@@ -0,0 +1,7 @@
+create table financas.gerador_id (
+	nome varchar(255) not null,
+	valor bigint,
+	constraint pk_gerador_id primary key (nome)
+);
+
+insert into financas.gerador_id (nome, valor) select 'lancamento', coalesce(max(id), 0) + 51 from financas.lancamento;
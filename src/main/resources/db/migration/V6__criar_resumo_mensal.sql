@@ -0,0 +1,17 @@
+create table financas.resumo_mensal (
+	id_usuario bigint not null,
+	ano integer not null,
+	mes integer not null,
+	tipo varchar(20) not null,
+	status varchar(20) not null,
+	total decimal(19,2) not null,
+	quantidade bigint not null,
+	constraint pk_resumo_mensal primary key (id_usuario, ano, mes, tipo, status),
+	constraint fk_resumo_mensal_usuario foreign key (id_usuario) references financas.usuario (id)
+);
+
+insert into financas.resumo_mensal (id_usuario, ano, mes, tipo, status, total, quantidade)
+select id_usuario, ano, mes, tipo, status, sum(valor), count(*)
+from financas.lancamento
+where id_usuario is not null and tipo is not null and status is not null
+group by id_usuario, ano, mes, tipo, status;
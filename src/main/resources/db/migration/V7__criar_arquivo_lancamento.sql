@@ -0,0 +1,25 @@
+create table financas.lancamento_arquivo (
+	id bigint not null,
+	descricao varchar(255),
+	mes integer,
+	ano integer,
+	id_usuario bigint,
+	valor decimal(16,2),
+	data_cadastro date,
+	tipo varchar(20),
+	status varchar(20),
+	constraint pk_lancamento_arquivo primary key (id),
+	constraint fk_lancamento_arquivo_usuario foreign key (id_usuario) references financas.usuario (id)
+);
+
+create index idx_lancamento_arquivo_usuario_ano_mes on financas.lancamento_arquivo (id_usuario, ano, mes);
+
+create index idx_lancamento_ano on financas.lancamento (ano, id);
+
+create table financas.saldo_arquivado (
+	id_usuario bigint not null,
+	receitas decimal(19,2) not null,
+	despesas decimal(19,2) not null,
+	constraint pk_saldo_arquivado primary key (id_usuario),
+	constraint fk_saldo_arquivado_usuario foreign key (id_usuario) references financas.usuario (id)
+);
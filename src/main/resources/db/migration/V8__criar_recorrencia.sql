@@ -0,0 +1,24 @@
+create table financas.recorrencia (
+	id bigint not null auto_increment,
+	descricao varchar(255) not null,
+	valor decimal(16,2) not null,
+	tipo varchar(20) not null,
+	id_usuario bigint not null,
+	ano_inicio integer not null,
+	mes_inicio integer not null,
+	parcelas integer,
+	proxima_parcela integer not null,
+	data_cadastro date,
+	constraint pk_recorrencia primary key (id),
+	constraint fk_recorrencia_usuario foreign key (id_usuario) references financas.usuario (id)
+);
+
+create index idx_recorrencia_usuario on financas.recorrencia (id_usuario);
+
+alter table financas.lancamento add column id_recorrencia bigint;
+alter table financas.lancamento add column parcela integer;
+alter table financas.lancamento add constraint uk_lancamento_recorrencia_parcela unique (id_recorrencia, parcela);
+alter table financas.lancamento add constraint fk_lancamento_recorrencia foreign key (id_recorrencia) references financas.recorrencia (id);
+
+alter table financas.lancamento_arquivo add column id_recorrencia bigint;
+alter table financas.lancamento_arquivo add column parcela integer;
@@ -0,0 +1,43 @@
+package com.mconstantinojr.minhasfinancas;
+
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricasTest {
+
+	@Autowired
+	MockMvc mvc;
+
+	@Test
+	public void deveExporMetricasNoFormatoPrometheus() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get("/api/usuarios/{id}/saldo", 999999L))
+			.andExpect(MockMvcResultMatchers.status().isNotFound());
+
+		mvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().string(Matchers.allOf(
+					Matchers.containsString("http_server_requests_seconds_bucket"),
+					Matchers.containsString("uri=\"/api/usuarios/{id}/saldo\""),
+					Matchers.containsString("spring_data_repository_invocations_seconds_bucket"),
+					Matchers.containsString("repository=\"UsuarioRepository\""),
+					Matchers.containsString("hibernate_statements_total"),
+					Matchers.containsString("hibernate_second_level_cache_requests_total{"),
+					Matchers.containsString("region=\"usuario\",result=\"hit\""),
+					Matchers.containsString("hikaricp_connections_active"))));
+	}
+}
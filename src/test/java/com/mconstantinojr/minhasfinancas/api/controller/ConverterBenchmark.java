@@ -0,0 +1,54 @@
+package com.mconstantinojr.minhasfinancas.api.controller;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mconstantinojr.minhasfinancas.api.dto.LancamentoDTO;
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+	LancamentoController controller;
+	
+	LancamentoDTO dto;
+	
+	Usuario usuario;
+	
+	@Setup
+	public void setUp() {
+		controller = new LancamentoController(null, null);
+		usuario = Usuario.builder().id(1L).build();
+		dto = LancamentoDTO.builder()
+				.descricao("lancamento")
+				.ano(2020)
+				.mes(1)
+				.valor(BigDecimal.TEN)
+				.usuario(1L)
+				.tipo("RECEITA")
+				.status("PENDENTE")
+				.build();
+	}
+	
+	@Benchmark
+	public Lancamento converter() {
+		return controller.converter(dto, usuario);
+	}
+}
@@ -0,0 +1,216 @@
+package com.mconstantinojr.minhasfinancas.api.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.mconstantinojr.minhasfinancas.api.converter.LancamentoColunarHttpMessageConverter;
+import com.mconstantinojr.minhasfinancas.api.dto.LancamentoDTO;
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+import com.mconstantinojr.minhasfinancas.security.TokenFilter;
+import com.mconstantinojr.minhasfinancas.service.LancamentoService;
+import com.mconstantinojr.minhasfinancas.service.TokenService;
+import com.mconstantinojr.minhasfinancas.service.UsuarioService;
+
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+@WebMvcTest(controllers = LancamentoController.class)
+@AutoConfigureMockMvc
+public class LancamentoControllerTest {
+
+	static final String API = "/api/lancamentos";
+	
+	@Autowired
+	MockMvc mvc;
+	
+	@MockBean
+	LancamentoService service;
+	
+	@MockBean
+	UsuarioService usuarioService;
+	
+	@MockBean
+	TokenService tokenService;
+	
+	@Before
+	public void setUp() {
+		Mockito.when(usuarioService.obterPorId(1L)).thenReturn(Optional.of(Usuario.builder().id(1L).build()));
+		Mockito.when(service.buscarResumos(ArgumentMatchers.any(Lancamento.class))).thenReturn(List.of(
+				new LancamentoResumo(10L, "salario", 1, 2024, new BigDecimal("1000.00"), TipoLancamento.RECEITA, 
+						StatusLancamento.EFETIVADO, LocalDate.of(2024, 1, 5), 1L),
+				new LancamentoResumo(11L, "aluguel", 1, 2024, new BigDecimal("400.50"), TipoLancamento.DESPESA, 
+						StatusLancamento.PENDENTE, null, 1L)));
+	}
+	
+	@Test
+	public void deveRetornarOsLancamentosEmColunasQuandoSolicitado() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(API).param("usuario", "1").accept(LancamentoColunarHttpMessageConverter.COLUNAR))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(LancamentoColunarHttpMessageConverter.COLUNAR))
+			.andExpect(MockMvcResultMatchers.jsonPath("quantidade").value(2))
+			.andExpect(MockMvcResultMatchers.jsonPath("usuario").value(1))
+			.andExpect(MockMvcResultMatchers.jsonPath("codigos.tipo[1]").value("DESPESA"))
+			.andExpect(MockMvcResultMatchers.jsonPath("colunas.id").value(Matchers.contains(10, 11)))
+			.andExpect(MockMvcResultMatchers.jsonPath("colunas.valor").value(Matchers.contains(1000.0, 400.5)))
+			.andExpect(MockMvcResultMatchers.jsonPath("colunas.tipo").value(Matchers.contains(0, 1)))
+			.andExpect(MockMvcResultMatchers.jsonPath("colunas.status").value(Matchers.contains(2, 0)))
+			.andExpect(MockMvcResultMatchers.jsonPath("colunas.dataCadastro").value(Matchers.contains("2024-01-05", null)))
+			.andExpect(MockMvcResultMatchers.jsonPath("colunas.usuario").doesNotExist());
+	}
+	
+	@Test
+	public void deveManterOJsonPadraoPorPadrao() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(API).param("usuario", "1").accept(MediaType.APPLICATION_JSON))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().string("Vary", Matchers.containsString("Accept")))
+			.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+			.andExpect(MockMvcResultMatchers.jsonPath("[0].descricao").value("salario"))
+			.andExpect(MockMvcResultMatchers.jsonPath("[1].tipo").value("DESPESA"));
+	}
+	
+	@Test
+	public void deveRetornarJsonQuandoNaoHouverAccept() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get(API).param("usuario", "1"))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+			.andExpect(MockMvcResultMatchers.jsonPath("[0].descricao").value("salario"));
+		
+		mvc.perform(MockMvcRequestBuilders.get(API).param("usuario", "1").accept(MediaType.ALL))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+			.andExpect(MockMvcResultMatchers.jsonPath("[0].descricao").value("salario"));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deveAceitarERetornarCbor() throws Exception {
+		Mockito.when(usuarioService.obterReferencia(1L)).thenReturn(Usuario.builder().id(1L).build());
+		Mockito.when(service.salvar(ArgumentMatchers.any(Lancamento.class))).thenAnswer(invocacao -> {
+			Lancamento lancamento = invocacao.getArgument(0);
+			lancamento.setId(12L);
+			return lancamento;
+		});
+		
+		CBORMapper cbor = new CBORMapper();
+		LancamentoDTO dto = LancamentoDTO.builder().descricao("mercado").mes(2).ano(2024)
+				.valor(new BigDecimal("150.75")).usuario(1L).tipo("DESPESA").build();
+		
+		MvcResult resultado = mvc.perform(MockMvcRequestBuilders.post(API)
+					.contentType(MediaType.APPLICATION_CBOR)
+					.accept(MediaType.APPLICATION_CBOR)
+					.content(cbor.writeValueAsBytes(dto)))
+			.andExpect(MockMvcResultMatchers.status().isCreated())
+			.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+			.andReturn();
+		
+		Map<String, Object> corpo = cbor.readValue(resultado.getResponse().getContentAsByteArray(), Map.class);
+		Assertions.assertThat(corpo).containsEntry("id", 12).containsEntry("descricao", "mercado")
+			.containsEntry("tipo", "DESPESA").containsEntry("usuario", 1);
+	}
+	
+	@Test
+	public void deveRecusarLancamentoDeOutroUsuarioDoToken() throws Exception {
+		LancamentoDTO dto = LancamentoDTO.builder().descricao("mercado").mes(2).ano(2024)
+				.valor(new BigDecimal("150.75")).usuario(1L).tipo("DESPESA").build();
+		
+		mvc.perform(MockMvcRequestBuilders.post(API)
+					.requestAttr(TokenFilter.ATRIBUTO_USUARIO, 2L)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(new ObjectMapper().writeValueAsString(dto)))
+			.andExpect(MockMvcResultMatchers.status().isForbidden());
+		
+		Mockito.verify(service, Mockito.never()).salvar(ArgumentMatchers.any(Lancamento.class));
+	}
+	
+	@Test
+	public void deveRecusarExcluirLancamentoDeOutroUsuarioDoToken() throws Exception {
+		Lancamento lancamento = Lancamento.builder().id(5L).usuario(Usuario.builder().id(1L).build()).build();
+		Mockito.when(service.obterPorId(5L)).thenReturn(Optional.of(lancamento));
+		
+		mvc.perform(MockMvcRequestBuilders.delete(API.concat("/5")).requestAttr(TokenFilter.ATRIBUTO_USUARIO, 2L))
+			.andExpect(MockMvcResultMatchers.status().isForbidden());
+		mvc.perform(MockMvcRequestBuilders.put(API.concat("/5/atualiza-status")).requestAttr(TokenFilter.ATRIBUTO_USUARIO, 2L)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content("{\"status\":\"EFETIVADO\"}"))
+			.andExpect(MockMvcResultMatchers.status().isForbidden());
+		
+		Mockito.verify(service, Mockito.never()).deletar(ArgumentMatchers.any(Lancamento.class));
+		Mockito.verify(service, Mockito.never()).atualizar(ArgumentMatchers.any(Lancamento.class));
+	}
+	
+	@Test
+	public void deveRecusarItemDoLoteComId() throws Exception {
+		LancamentoDTO novo = LancamentoDTO.builder().descricao("mercado").mes(2).ano(2024)
+				.valor(new BigDecimal("150.75")).usuario(1L).tipo("DESPESA").build();
+		LancamentoDTO existente = LancamentoDTO.builder().id(99L).descricao("aluguel").mes(2).ano(2024)
+				.valor(new BigDecimal("400.00")).usuario(1L).tipo("DESPESA").build();
+		Mockito.when(usuarioService.obterReferencia(1L)).thenReturn(Usuario.builder().id(1L).build());
+		
+		mvc.perform(MockMvcRequestBuilders.post(API.concat("/lote"))
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(new ObjectMapper().writeValueAsString(List.of(novo, existente))))
+			.andExpect(MockMvcResultMatchers.status().isBadRequest())
+			.andExpect(MockMvcResultMatchers.jsonPath("salvos").value(0))
+			.andExpect(MockMvcResultMatchers.jsonPath("erros.1").exists())
+			.andExpect(MockMvcResultMatchers.jsonPath("erros.0").doesNotExist());
+		
+		Mockito.verify(service, Mockito.never()).salvarEmLote(ArgumentMatchers.anyList());
+	}
+	
+	@Test
+	public void deveIgnorarOIdInformadoAoCriarLancamento() throws Exception {
+		Mockito.when(usuarioService.obterReferencia(1L)).thenReturn(Usuario.builder().id(1L).build());
+		Mockito.when(service.salvar(ArgumentMatchers.any(Lancamento.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+		LancamentoDTO dto = LancamentoDTO.builder().id(99L).descricao("mercado").mes(2).ano(2024)
+				.valor(new BigDecimal("150.75")).usuario(1L).tipo("DESPESA").build();
+		
+		mvc.perform(MockMvcRequestBuilders.post(API)
+					.requestAttr(TokenFilter.ATRIBUTO_USUARIO, 1L)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(new ObjectMapper().writeValueAsString(dto)))
+			.andExpect(MockMvcResultMatchers.status().isCreated());
+		
+		Mockito.verify(service).salvar(ArgumentMatchers.argThat(lancamento -> lancamento.getId() == null));
+	}
+	
+	@Test
+	public void deveUsarUmETagPorFormato() throws Exception {
+		Mockito.when(service.obterVersao(1L)).thenReturn(3L);
+		
+		mvc.perform(MockMvcRequestBuilders.get(API).param("usuario", "1"))
+			.andExpect(MockMvcResultMatchers.header().string("ETag", "\"lancamentos-1-3-json\""));
+		mvc.perform(MockMvcRequestBuilders.get(API).param("usuario", "1").accept(LancamentoColunarHttpMessageConverter.COLUNAR))
+			.andExpect(MockMvcResultMatchers.header().string("ETag", "\"lancamentos-1-3-colunar\""));
+		mvc.perform(MockMvcRequestBuilders.get(API).param("usuario", "1").accept(LancamentoColunarHttpMessageConverter.COLUNAR)
+					.header("If-None-Match", "\"lancamentos-1-3-json\""))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+	}
+}
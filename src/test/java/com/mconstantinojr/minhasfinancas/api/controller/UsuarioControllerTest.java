@@ -1,5 +1,10 @@
 package com.mconstantinojr.minhasfinancas.api.controller;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -16,11 +21,15 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mconstantinojr.minhasfinancas.api.dto.SaldoAnualDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.SaldoMensalDTO;
 import com.mconstantinojr.minhasfinancas.api.dto.UsuarioDTO;
 import com.mconstantinojr.minhasfinancas.exception.ErroAutenticacao;
 import com.mconstantinojr.minhasfinancas.exception.RegraDeNegocioException;
 import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
 import com.mconstantinojr.minhasfinancas.service.LancamentoService;
+import com.mconstantinojr.minhasfinancas.service.TokenService;
 import com.mconstantinojr.minhasfinancas.service.UsuarioService;
 
 @RunWith(SpringRunner.class)
@@ -42,6 +51,9 @@ public class UsuarioControllerTest {
 	@MockBean 
 	LancamentoService lancamentoService;
 	
+	@MockBean
+	TokenService tokenService;
+	
 	@Test
 	public void deveAutenticarUmUsuario() throws Exception {
 		//cenario
@@ -53,6 +65,7 @@ public class UsuarioControllerTest {
 		Usuario usuario = Usuario.builder().id(1L).email(email).senha(senha).build();
 		
 		Mockito.when(service.autenticar(email, senha)).thenReturn(usuario);
+		Mockito.when(tokenService.gerarToken(usuario)).thenReturn("token");
 		
 		String json = new ObjectMapper().writeValueAsString(dto);
 		
@@ -67,7 +80,8 @@ public class UsuarioControllerTest {
 			.andExpect(MockMvcResultMatchers.status().isOk())
 			.andExpect(MockMvcResultMatchers.jsonPath("id").value(usuario.getId()))
 			.andExpect(MockMvcResultMatchers.jsonPath("nome").value(usuario.getNome()))
-			.andExpect(MockMvcResultMatchers.jsonPath("email").value(usuario.getEmail()));
+			.andExpect(MockMvcResultMatchers.jsonPath("email").value(usuario.getEmail()))
+			.andExpect(MockMvcResultMatchers.jsonPath("token").value("token"));
 			
 		
 	}
@@ -151,4 +165,100 @@ public class UsuarioControllerTest {
 	}
 
 
+	@Test
+	public void deveRetornarOSaldoMensalDoUsuario() throws Exception {
+		//cenario
+		Long id = 1L;
+		Usuario usuario = Usuario.builder().id(id).email("usuario@email.com").build();
+		
+		SaldoAnualDTO saldoAnual = SaldoAnualDTO.builder().ano(2024).build();
+		saldoAnual.getMeses().add(SaldoMensalDTO.builder().mes(1).build());
+		saldoAnual.getMeses().get(0).getTotal().somar(TipoLancamento.RECEITA, BigDecimal.TEN);
+		
+		Mockito.when(service.obterPorId(id)).thenReturn(Optional.of(usuario));
+		Mockito.when(lancamentoService.obterSaldoMensal(id, 2024)).thenReturn(saldoAnual);
+		
+		//execucao e verificacao
+		MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+												.get(API.concat("/1/saldo/mensal"))
+												.param("ano", "2024")
+												.accept(JSON);
+		mvc
+			.perform(request)
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.jsonPath("ano").value(2024))
+			.andExpect(MockMvcResultMatchers.jsonPath("meses[0].total.receitas").value(10));
+	}
+	
+	@Test
+	public void deveObterOSaldoComTokenSemConsultarOUsuario() throws Exception {
+		//cenario
+		Mockito.when(tokenService.obterIdUsuario("token")).thenReturn(Optional.of(1L));
+		Mockito.when(lancamentoService.obterSaldoPorUsuario(1L)).thenReturn(BigDecimal.TEN);
+		
+		//execucao e verificacao
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).header("Authorization", "Bearer token"))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/2/saldo")).header("Authorization", "Bearer token"))
+			.andExpect(MockMvcResultMatchers.status().isForbidden());
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).header("Authorization", "Bearer invalido"))
+			.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+		
+		Mockito.verify(service, Mockito.never()).obterPorId(Mockito.anyLong());
+	}
+	
+	@Test
+	public void deveResponderNaoModificadoQuandoAVersaoDoSaldoNaoMudou() throws Exception {
+		//cenario
+		Usuario usuario = Usuario.builder().id(1L).email("usuario@email.com").build();
+		Mockito.when(service.obterPorId(1L)).thenReturn(Optional.of(usuario));
+		Mockito.when(lancamentoService.obterVersao(1L)).thenReturn(7L);
+		Mockito.when(lancamentoService.obterSaldoPorUsuario(1L)).thenReturn(BigDecimal.TEN);
+		
+		//execucao e verificacao
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.header().string("ETag", "\"saldo-1-7-json\""))
+			.andExpect(MockMvcResultMatchers.header().string("Vary", Matchers.containsString("Accept")));
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).header("If-None-Match", "\"saldo-1-7-json\""))
+			.andExpect(MockMvcResultMatchers.status().isNotModified());
+		
+		Mockito.verify(lancamentoService, Mockito.times(1)).obterSaldoPorUsuario(1L);
+	}
+	
+	@Test
+	public void deveUsarETagsDiferentesParaJsonECbor() throws Exception {
+		//cenario
+		Usuario usuario = Usuario.builder().id(1L).email("usuario@email.com").build();
+		Mockito.when(service.obterPorId(1L)).thenReturn(Optional.of(usuario));
+		Mockito.when(lancamentoService.obterVersao(1L)).thenReturn(7L);
+		Mockito.when(lancamentoService.obterSaldoPorUsuario(1L)).thenReturn(BigDecimal.TEN);
+		
+		//execucao
+		String json = mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(MediaType.APPLICATION_JSON))
+			.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+			.andReturn().getResponse().getHeader("ETag");
+		String cbor = mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(MediaType.APPLICATION_CBOR))
+			.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		//verificacao
+		Assertions.assertThat(cbor).isNotNull().isNotEqualTo(json);
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(MediaType.APPLICATION_CBOR)
+					.header("If-None-Match", json))
+			.andExpect(MockMvcResultMatchers.status().isOk());
+		mvc
+			.perform(MockMvcRequestBuilders.get(API.concat("/1/saldo")).accept(MediaType.APPLICATION_CBOR)
+					.header("If-None-Match", cbor))
+			.andExpect(MockMvcResultMatchers.status().isNotModified());
+	}
+
 }
@@ -0,0 +1,101 @@
+package com.mconstantinojr.minhasfinancas.api.converter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.mconstantinojr.minhasfinancas.api.dto.LancamentoDTO;
+
+/**
+ * Compara codificação e decodificação de um lote de lançamentos em JSON e em CBOR,
+ * pelos mesmos conversores usados pela API. O tamanho de cada corpo é impresso no início da execução.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatoBinarioBenchmark {
+
+	static final Type LOTE = new ParameterizedTypeReference<List<LancamentoDTO>>() {}.getType();
+	
+	@Param({ "json", "cbor" })
+	String formato;
+	
+	@Param({ "1000" })
+	int quantidade;
+	
+	AbstractJackson2HttpMessageConverter conversor;
+	
+	MediaType tipo;
+	
+	List<LancamentoDTO> lote;
+	
+	byte[] corpo;
+	
+	@Setup
+	public void setUp() throws IOException {
+		if ("cbor".equals(formato)) {
+			conversor = new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build());
+			tipo = MediaType.APPLICATION_CBOR;
+		} else {
+			conversor = new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+			tipo = MediaType.APPLICATION_JSON;
+		}
+		
+		lote = new ArrayList<>(quantidade);
+		for (int i = 0; i < quantidade; i++) {
+			lote.add(LancamentoDTO.builder()
+					.descricao("lancamento " + i)
+					.ano(2020 + i % 4)
+					.mes(1 + i % 12)
+					.valor(BigDecimal.valueOf(1000 + i, 2))
+					.usuario(1L)
+					.tipo(i % 3 == 0 ? "DESPESA" : "RECEITA")
+					.status("PENDENTE")
+					.build());
+		}
+		
+		corpo = codificar();
+		System.out.printf("%n%d lançamentos em %s: %d bytes%n", quantidade, formato, corpo.length);
+	}
+	
+	@Benchmark
+	public byte[] codificar() throws IOException {
+		MockHttpOutputMessage saida = new MockHttpOutputMessage();
+		conversor.write(lote, LOTE, tipo, saida);
+		return saida.getBodyAsBytes();
+	}
+	
+	@Benchmark
+	public Object decodificar() throws IOException {
+		MockHttpInputMessage entrada = new MockHttpInputMessage(corpo);
+		entrada.getHeaders().setContentType(tipo);
+		return conversor.read(LOTE, null, entrada);
+	}
+}
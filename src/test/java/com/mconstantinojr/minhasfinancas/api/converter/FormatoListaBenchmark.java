@@ -0,0 +1,87 @@
+package com.mconstantinojr.minhasfinancas.api.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+
+/**
+ * Compara o tempo de escrita de uma lista de lançamentos em JSON padrão e no
+ * formato colunar, pelos mesmos conversores usados pela API. O tamanho de cada
+ * resposta é impresso no início da execução.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatoListaBenchmark {
+
+	@Param({ "100", "10000" })
+	int quantidade;
+	
+	List<LancamentoResumo> lancamentos;
+	
+	MappingJackson2HttpMessageConverter json;
+	
+	LancamentoColunarHttpMessageConverter colunar;
+	
+	@Setup
+	public void setUp() throws IOException {
+		json = new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+		colunar = new LancamentoColunarHttpMessageConverter(json.getObjectMapper().getFactory());
+		
+		lancamentos = new ArrayList<>(quantidade);
+		for (int i = 0; i < quantidade; i++) {
+			lancamentos.add(new LancamentoResumo((long) i, "lancamento " + i, 1 + i % 12, 2020 + i % 4, 
+					BigDecimal.valueOf(1000 + i, 2), i % 3 == 0 ? TipoLancamento.DESPESA : TipoLancamento.RECEITA,
+					StatusLancamento.values()[i % 3], LocalDate.of(2024, 1, 1).plusDays(i % 365), 1L));
+		}
+		
+		System.out.printf("%n%d lançamentos: json=%d bytes, colunar=%d bytes%n", quantidade, 
+				escrever(json, MediaType.APPLICATION_JSON).length, 
+				escrever(colunar, LancamentoColunarHttpMessageConverter.COLUNAR).length);
+	}
+	
+	@Benchmark
+	public byte[] json() throws IOException {
+		return escrever(json, MediaType.APPLICATION_JSON);
+	}
+	
+	@Benchmark
+	public byte[] colunar() throws IOException {
+		return escrever(colunar, LancamentoColunarHttpMessageConverter.COLUNAR);
+	}
+	
+	@SuppressWarnings("unchecked")
+	byte[] escrever(HttpMessageConverter<?> conversor, MediaType tipo) throws IOException {
+		MockHttpOutputMessage saida = new MockHttpOutputMessage();
+		((HttpMessageConverter<Object>) conversor).write(lancamentos, tipo, saida);
+		return saida.getBodyAsBytes();
+	}
+}
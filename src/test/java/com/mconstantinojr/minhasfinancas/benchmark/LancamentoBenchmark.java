@@ -0,0 +1,93 @@
+package com.mconstantinojr.minhasfinancas.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+import com.mconstantinojr.minhasfinancas.service.impl.LancamentoServiceImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LancamentoBenchmark {
+
+	@Param({ "10", "1000" })
+	int quantidade;
+	
+	LancamentoServiceImpl service;
+	
+	ObjectMapper objectMapper;
+	
+	Lancamento lancamento;
+	
+	List<Lancamento> lancamentos;
+	
+	List<LancamentoResumo> resumos;
+	
+	@Setup
+	public void setUp() {
+		service = new LancamentoServiceImpl(null, null);
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		
+		Usuario usuario = Usuario.builder().id(1L).nome("usuario").email("usuario@email.com").senha("senha").build();
+		lancamentos = new ArrayList<>(quantidade);
+		resumos = new ArrayList<>(quantidade);
+		for (int i = 0; i < quantidade; i++) {
+			Lancamento item = Lancamento.builder()
+					.id((long) i)
+					.descricao("lancamento " + i)
+					.ano(2020)
+					.mes(1 + i % 12)
+					.valor(BigDecimal.valueOf(10 + i))
+					.tipo(TipoLancamento.RECEITA)
+					.status(StatusLancamento.PENDENTE)
+					.dataCadastro(LocalDate.of(2020, 1, 1))
+					.usuario(usuario)
+					.build();
+			lancamentos.add(item);
+			resumos.add(LancamentoResumo.de(item));
+		}
+		lancamento = lancamentos.get(0);
+	}
+	
+	@Benchmark
+	public Lancamento validar() {
+		service.validar(lancamento);
+		return lancamento;
+	}
+	
+	@Benchmark
+	public byte[] serializarLancamentos() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(lancamentos);
+	}
+	
+	@Benchmark
+	public byte[] serializarResumos() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(resumos);
+	}
+}
@@ -0,0 +1,96 @@
+package com.mconstantinojr.minhasfinancas.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mconstantinojr.minhasfinancas.MinhasfinancasApplication;
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+import com.mconstantinojr.minhasfinancas.service.LancamentoService;
+import com.mconstantinojr.minhasfinancas.service.SaldoService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaldoBenchmark {
+
+	@Param({ "100", "10000" })
+	int lancamentosPorUsuario;
+
+	ConfigurableApplicationContext contexto;
+
+	LancamentoService lancamentoService;
+
+	SaldoService saldoService;
+
+	Long idUsuario;
+
+	@Setup
+	public void setUp() {
+		contexto = new SpringApplicationBuilder(MinhasfinancasApplication.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				.properties("logging.level.root=WARN",
+						"spring.datasource.url=jdbc:h2:mem:saldo-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas")
+				.run();
+		lancamentoService = contexto.getBean(LancamentoService.class);
+		saldoService = contexto.getBean(SaldoService.class);
+
+		Usuario usuario = contexto.getBean(UsuarioRepository.class).save(Usuario.builder()
+				.nome("benchmark").email("benchmark@email.com").senha("senha").build());
+		idUsuario = usuario.getId();
+
+		List<Lancamento> lancamentos = new ArrayList<>(lancamentosPorUsuario);
+		for (int i = 0; i < lancamentosPorUsuario; i++) {
+			lancamentos.add(Lancamento.builder()
+					.descricao("lancamento " + i)
+					.ano(2015 + i % 10)
+					.mes(1 + i % 12)
+					.valor(BigDecimal.valueOf(10 + i % 100))
+					.tipo(i % 3 == 0 ? TipoLancamento.DESPESA : TipoLancamento.RECEITA)
+					.dataCadastro(LocalDate.now())
+					.usuario(usuario)
+					.build());
+		}
+		lancamentoService.salvarEmLote(lancamentos);
+	}
+
+	@TearDown
+	public void tearDown() {
+		contexto.close();
+	}
+
+	@Benchmark
+	public BigDecimal obterSaldoPorUsuario() {
+		return lancamentoService.obterSaldoPorUsuario(idUsuario);
+	}
+
+	@Benchmark
+	public void recalcularSaldo() {
+		saldoService.recalcular(idUsuario);
+	}
+}
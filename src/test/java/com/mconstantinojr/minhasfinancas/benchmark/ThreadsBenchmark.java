@@ -0,0 +1,155 @@
+package com.mconstantinojr.minhasfinancas.benchmark;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mconstantinojr.minhasfinancas.MinhasfinancasApplication;
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+import com.mconstantinojr.minhasfinancas.service.LancamentoService;
+
+/**
+ * Compara vazão e latência da API servida por threads de plataforma e pelo perfil "virtual".
+ * Cada modo sobe a aplicação em uma porta aleatória, popula um usuário e dispara consultas concorrentes.
+ *
+ * <pre>
+ * mvn -Pjava21 test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.mconstantinojr.minhasfinancas.benchmark.ThreadsBenchmark \
+ *     -Dconcorrencia=200 -Drequisicoes=20000
+ * </pre>
+ *
+ * Por padrão usa H2 em memória; informe -Dbenchmark.url, -Dbenchmark.usuario e -Dbenchmark.senha
+ * para medir contra um MySQL, onde o tempo de espera no JDBC é representativo.
+ */
+public class ThreadsBenchmark {
+
+	private static final int LANCAMENTOS_POR_USUARIO = 500;
+
+	public static void main(String[] args) throws Exception {
+		int concorrencia = Integer.getInteger("concorrencia", 200);
+		int requisicoes = Integer.getInteger("requisicoes", 20000);
+
+		if (Runtime.version().feature() < 21) {
+			System.err.println("Java " + Runtime.version().feature() + ": o perfil virtual só usa threads virtuais a partir do Java 21.");
+		}
+
+		medir("plataforma", concorrencia, requisicoes, "test");
+		medir("virtual", concorrencia, requisicoes, "test", "virtual");
+	}
+
+	private static void medir(String modo, int concorrencia, int requisicoes, String... perfis) throws Exception {
+		List<String> propriedades = new ArrayList<>(List.of("server.port=0", "logging.level.root=WARN"));
+		String url = System.getProperty("benchmark.url");
+		if (url != null) {
+			propriedades.add("spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver");
+			propriedades.add("spring.datasource.url=" + url);
+			propriedades.add("spring.datasource.username=" + System.getProperty("benchmark.usuario", "root"));
+			propriedades.add("spring.datasource.password=" + System.getProperty("benchmark.senha", "root"));
+		} else {
+			propriedades.add("spring.datasource.url=jdbc:h2:mem:benchmark-" + modo
+					+ ";MODE=MySQL;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas");
+		}
+
+		try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(MinhasfinancasApplication.class)
+				.profiles(perfis)
+				.properties(propriedades.toArray(new String[0]))
+				.run()) {
+			int porta = contexto.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			Long idUsuario = popular(contexto, modo);
+
+			HttpClient cliente = HttpClient.newHttpClient();
+			HttpRequest requisicao = HttpRequest.newBuilder(
+					URI.create("http://localhost:" + porta + "/api/lancamentos?usuario=" + idUsuario + "&limite=50")).build();
+
+			executar(cliente, requisicao, concorrencia, Math.max(requisicoes / 10, concorrencia));
+
+			long inicio = System.nanoTime();
+			long[] latencias = executar(cliente, requisicao, concorrencia, requisicoes);
+			double segundos = (System.nanoTime() - inicio) / 1e9;
+
+			Arrays.sort(latencias);
+			System.out.printf(Locale.ROOT,
+					"{\"modo\":\"%s\",\"requisicoes\":%d,\"concorrencia\":%d,\"vazao\":%.1f,\"p50_ms\":%.2f,\"p99_ms\":%.2f}%n",
+					modo, requisicoes, concorrencia, requisicoes / segundos,
+					percentil(latencias, 0.50), percentil(latencias, 0.99));
+		}
+	}
+
+	private static long[] executar(HttpClient cliente, HttpRequest requisicao, int concorrencia, int total) throws Exception {
+		long[] latencias = new long[total];
+		AtomicInteger proxima = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(concorrencia);
+
+		try {
+			List<Future<?>> tarefas = new ArrayList<>(concorrencia);
+			for (int c = 0; c < concorrencia; c++) {
+				tarefas.add(executor.submit(() -> {
+					int i;
+					while ((i = proxima.getAndIncrement()) < total) {
+						long inicio = System.nanoTime();
+						HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+						if (resposta.statusCode() != 200) {
+							throw new IllegalStateException("Resposta inesperada: " + resposta.statusCode());
+						}
+						latencias[i] = System.nanoTime() - inicio;
+					}
+					return null;
+				}));
+			}
+
+			for (Future<?> tarefa : tarefas) {
+				tarefa.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		return latencias;
+	}
+
+	private static Long popular(ConfigurableApplicationContext contexto, String modo) {
+		Usuario usuario = contexto.getBean(UsuarioRepository.class).save(Usuario.builder()
+				.nome("benchmark")
+				.email("benchmark-" + modo + "-" + System.nanoTime() + "@email.com")
+				.senha("senha")
+				.build());
+
+		List<Lancamento> lancamentos = new ArrayList<>(LANCAMENTOS_POR_USUARIO);
+		for (int i = 0; i < LANCAMENTOS_POR_USUARIO; i++) {
+			lancamentos.add(Lancamento.builder()
+					.descricao("lancamento " + i)
+					.ano(2020 + i % 4)
+					.mes(1 + i % 12)
+					.valor(BigDecimal.valueOf(10 + i))
+					.tipo(i % 3 == 0 ? TipoLancamento.DESPESA : TipoLancamento.RECEITA)
+					.dataCadastro(LocalDate.now())
+					.usuario(usuario)
+					.build());
+		}
+		contexto.getBean(LancamentoService.class).salvarEmLote(lancamentos);
+
+		return usuario.getId();
+	}
+
+	private static double percentil(long[] ordenado, double p) {
+		int indice = (int) Math.ceil(p * ordenado.length) - 1;
+		return ordenado[Math.max(indice, 0)] / 1e6;
+	}
+}
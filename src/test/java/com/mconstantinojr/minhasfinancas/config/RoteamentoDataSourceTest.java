@@ -0,0 +1,127 @@
+package com.mconstantinojr.minhasfinancas.config;
+
+import java.sql.Connection;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+@SpringBootTest(properties = {
+		"minhasfinancas.datasource.replicas[0].url=" + RoteamentoDataSourceTest.REPLICA_0,
+		"minhasfinancas.datasource.replicas[0].username=sa",
+		"minhasfinancas.datasource.replicas[0].password=sa",
+		"minhasfinancas.datasource.replicas[1].url=" + RoteamentoDataSourceTest.REPLICA_1,
+		"minhasfinancas.datasource.replicas[1].username=sa",
+		"minhasfinancas.datasource.replicas[1].password=sa",
+		"minhasfinancas.datasource.intervalo-verificacao=1h"
+})
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+public class RoteamentoDataSourceTest {
+
+	static final String REPLICA_0 = "jdbc:h2:mem:replica0;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas";
+	static final String REPLICA_1 = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas";
+	static final String EMAIL_REPLICA = "replica@email.com";
+	
+	@Autowired
+	UsuarioRepository repository;
+	
+	@Autowired
+	PlatformTransactionManager transactionManager;
+	
+	@BeforeClass
+	public static void criarReplicas() {
+		for (String url : new String[] { REPLICA_0, REPLICA_1 }) {
+			DriverManagerDataSource replica = new DriverManagerDataSource(url, "sa", "sa");
+			Flyway.configure().dataSource(replica).baselineOnMigrate(true).load().migrate();
+			JdbcTemplate jdbc = new JdbcTemplate(replica);
+			jdbc.update("delete from financas.usuario where email = ?", EMAIL_REPLICA);
+			jdbc.update("insert into financas.usuario (nome, email, senha) values ('replica', ?, 'senha')", EMAIL_REPLICA);
+		}
+	}
+	
+	@Test
+	public void deveLerDaReplicaEmTransacaoSomenteLeitura() {
+		Assertions.assertThat(executar(true, () -> repository.existsByEmail(EMAIL_REPLICA))).isTrue();
+		Assertions.assertThat(executar(true, () -> repository.existsByEmail(EMAIL_REPLICA))).isTrue();
+	}
+	
+	@Test
+	public void deveEscreverNoPrimario() {
+		Assertions.assertThat(executar(false, () -> repository.existsByEmail(EMAIL_REPLICA))).isFalse();
+	}
+	
+	@Test
+	public void deveUsarOPrimarioQuandoAReplicaFalha() throws Exception {
+		DriverManagerDataSource primario = new DriverManagerDataSource(REPLICA_0, "sa", "sa");
+		DriverManagerDataSource indisponivel = new DriverManagerDataSource("jdbc:h2:mem:inexistente;IFEXISTS=TRUE", "sa", "sa");
+		RoteamentoDataSource dataSource = new RoteamentoDataSource(primario, List.of(indisponivel), Duration.ofHours(1));
+		
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try (Connection conexao = dataSource.getConnection()) {
+			Assertions.assertThat(conexao.getMetaData().getURL()).startsWith("jdbc:h2:mem:replica0");
+			Assertions.assertThat(dataSource.isDisponivel(0)).isFalse();
+		} finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+		
+		dataSource.verificarReplicas();
+		Assertions.assertThat(dataSource.isDisponivel(0)).isFalse();
+	}
+	
+	@Test
+	public void deveUsarOPrimarioQuandoAReplicaNaoEntregaConexaoNoTimeout() throws Exception {
+		ReplicasProperties.Replica configuracao = new ReplicasProperties.Replica();
+		configuracao.setUrl(REPLICA_1);
+		configuracao.setUsername("sa");
+		configuracao.setPassword("sa");
+		configuracao.setMaximumPoolSize(1);
+		configuracao.setConnectionTimeout(Duration.ofMillis(250));
+		DriverManagerDataSource primario = new DriverManagerDataSource(REPLICA_0, "sa", "sa");
+		
+		try (HikariDataSource replica = ReplicasConfig.criarReplica(configuracao, 0); 
+				Connection ocupada = replica.getConnection()) {
+			RoteamentoDataSource dataSource = new RoteamentoDataSource(primario, List.of(replica), Duration.ofHours(1));
+			
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+			long inicio = System.nanoTime();
+			try (Connection conexao = dataSource.getConnection()) {
+				Assertions.assertThat(Duration.ofNanos(System.nanoTime() - inicio)).isLessThan(Duration.ofSeconds(2));
+				Assertions.assertThat(conexao.getMetaData().getURL()).startsWith("jdbc:h2:mem:replica0");
+				Assertions.assertThat(dataSource.isDisponivel(0)).isFalse();
+			} finally {
+				TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+			}
+		}
+	}
+	
+	@Test(expected = SQLFeatureNotSupportedException.class)
+	public void deveRecusarConexaoComCredenciaisExplicitas() throws Exception {
+		DriverManagerDataSource primario = new DriverManagerDataSource(REPLICA_0, "sa", "sa");
+		new RoteamentoDataSource(primario, List.of(), Duration.ofHours(1)).getConnection("sa", "sa");
+	}
+	
+	private boolean executar(boolean somenteLeitura, BooleanSupplier consulta) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(somenteLeitura);
+		return template.execute(status -> consulta.getAsBoolean());
+	}
+}
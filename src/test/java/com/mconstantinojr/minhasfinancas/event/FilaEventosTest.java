@@ -0,0 +1,133 @@
+package com.mconstantinojr.minhasfinancas.event;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoEventoLancamento;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepositoryTest;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepositoryTest;
+import com.mconstantinojr.minhasfinancas.service.LancamentoService;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+public class FilaEventosTest {
+
+	static final BlockingQueue<LancamentoAlterado> RECEBIDOS = new LinkedBlockingQueue<>();
+	
+	@TestConfiguration
+	static class ConsumidorDeTeste {
+		
+		@Bean
+		ConsumidorEventos coletor() {
+			return RECEBIDOS::addAll;
+		}
+	}
+	
+	@Autowired
+	LancamentoService service;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Autowired
+	TransactionTemplate transactionTemplate;
+	
+	@Autowired
+	FilaEventos fila;
+	
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	
+	Usuario usuario;
+	
+	@Before
+	public void setUp() {
+		usuario = UsuarioRepositoryTest.criarUsuario();
+		usuario.setEmail(UUID.randomUUID() + "@email.com");
+		usuario = usuarioRepository.save(usuario);
+		RECEBIDOS.clear();
+	}
+	
+	@After
+	public void tearDown() {
+		jdbcTemplate.update("delete from financas.lancamento where id_usuario = ?", usuario.getId());
+		jdbcTemplate.update("delete from financas.saldo_usuario where id_usuario = ?", usuario.getId());
+		jdbcTemplate.update("delete from financas.resumo_mensal where id_usuario = ?", usuario.getId());
+		jdbcTemplate.update("delete from financas.usuario where id = ?", usuario.getId());
+	}
+	
+	@Test
+	public void deveEntregarOsEventosDepoisDoCommit() throws Exception {
+		Lancamento lancamento = criarLancamento();
+		
+		service.salvar(lancamento);
+		service.atualizarStatus(usuario.getId(), List.of(lancamento.getId()), StatusLancamento.EFETIVADO);
+		
+		LancamentoAlterado criado = RECEBIDOS.poll(5, TimeUnit.SECONDS);
+		LancamentoAlterado statusAlterado = RECEBIDOS.poll(5, TimeUnit.SECONDS);
+		Assertions.assertThat(criado.tipo()).isEqualTo(TipoEventoLancamento.CRIADO);
+		Assertions.assertThat(criado.idUsuario()).isEqualTo(usuario.getId());
+		Assertions.assertThat(criado.ids()).containsExactly(lancamento.getId());
+		Assertions.assertThat(statusAlterado.tipo()).isEqualTo(TipoEventoLancamento.STATUS_ALTERADO);
+	}
+	
+	@Test
+	public void naoDeveEntregarEventosDeTransacaoDesfeita() throws Exception {
+		transactionTemplate.executeWithoutResult(status -> {
+			service.salvar(criarLancamento());
+			status.setRollbackOnly();
+		});
+		
+		Assertions.assertThat(RECEBIDOS.poll(500, TimeUnit.MILLISECONDS)).isNull();
+	}
+	
+	@Test
+	public void deveEntregarEventosPublicadosDepoisDeParar() throws Exception {
+		Lancamento lancamento = criarLancamento();
+		
+		fila.stop();
+		try {
+			service.salvar(lancamento);
+		} finally {
+			fila.start();
+		}
+		
+		LancamentoAlterado criado = RECEBIDOS.poll(5, TimeUnit.SECONDS);
+		Assertions.assertThat(criado).isNotNull();
+		Assertions.assertThat(criado.ids()).containsExactly(lancamento.getId());
+	}
+	
+	@Test
+	public void devePararDepoisDoServidorWeb() {
+		Assertions.assertThat(fila.getPhase()).isLessThan(SmartLifecycle.DEFAULT_PHASE - 2048);
+	}
+	
+	private Lancamento criarLancamento() {
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setUsuario(usuario);
+		return lancamento;
+	}
+}
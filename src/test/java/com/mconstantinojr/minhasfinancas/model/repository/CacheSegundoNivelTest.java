@@ -0,0 +1,75 @@
+package com.mconstantinojr.minhasfinancas.model.repository;
+
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+public class CacheSegundoNivelTest {
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+	
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	
+	Statistics estatisticas;
+	
+	Usuario usuario;
+	
+	@Before
+	public void setUp() {
+		estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		usuario = UsuarioRepositoryTest.criarUsuario();
+		usuario.setEmail(UUID.randomUUID() + "@email.com");
+		usuario = usuarioRepository.save(usuario);
+		estatisticas.clear();
+	}
+	
+	@After
+	public void tearDown() {
+		jdbcTemplate.update("delete from financas.lancamento where id_usuario = ?", usuario.getId());
+		jdbcTemplate.update("delete from financas.usuario where id = ?", usuario.getId());
+	}
+	
+	@Test
+	public void deveBuscarOUsuarioPeloCacheDeSegundoNivel() {
+		usuarioRepository.findById(usuario.getId());
+		estatisticas.clear();
+		
+		Usuario encontrado = usuarioRepository.findById(usuario.getId()).get();
+		
+		Assertions.assertThat(encontrado.getEmail()).isEqualTo(usuario.getEmail());
+		Assertions.assertThat(estatisticas.getDomainDataRegionStatistics("usuario").getHitCount()).isEqualTo(1);
+		Assertions.assertThat(estatisticas.getPrepareStatementCount()).isZero();
+	}
+	
+	@Test
+	public void deveBuscarOUsuarioPorEmailPeloCacheDeConsultas() {
+		usuarioRepository.findByEmail(usuario.getEmail());
+		
+		Assertions.assertThat(usuarioRepository.findByEmail(usuario.getEmail())).isPresent();
+		Assertions.assertThat(estatisticas.getQueryCacheHitCount()).isEqualTo(1);
+		Assertions.assertThat(estatisticas.getQueryCacheMissCount()).isEqualTo(1);
+	}
+}
@@ -2,7 +2,10 @@ package com.mconstantinojr.minhasfinancas.model.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 //import org.assertj.core.api.Assertions;
 import static org.assertj.core.api.Assertions.*;
@@ -13,12 +16,17 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.mconstantinojr.minhasfinancas.api.dto.FiltroLancamentoDTO;
 import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
 import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
 import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
@@ -100,4 +108,92 @@ public class LancamentoRepositoryTest {
 		assertThat(lancamentoEncontrado.isPresent()).isTrue();
 		
 	}
+	
+	@Test
+	public void deveBuscarUmaPaginaDeLancamentosAPartirDoCursor() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.criarUsuario());
+		
+		Lancamento janeiro = criarEPersistirUmLancamento(usuario, 2020, 1);
+		Lancamento fevereiro = criarEPersistirUmLancamento(usuario, 2020, 2);
+		Lancamento marco = criarEPersistirUmLancamento(usuario, 2020, 3);
+		criarEPersistirUmLancamento(usuario, 2019, 12);
+		
+		List<LancamentoResumo> pagina = repository.buscarPagina(usuario.getId(), null, null, 2020, 
+				janeiro.getAno(), janeiro.getMes(), janeiro.getId(), Limit.of(10));
+		
+		assertThat(pagina).extracting(LancamentoResumo::id).containsExactly(fevereiro.getId(), marco.getId());
+		assertThat(pagina).extracting(LancamentoResumo::usuario).containsOnly(usuario.getId());
+	}
+
+	@Test
+	public void deveExportarOsLancamentosDoUsuarioEmOrdem() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.criarUsuario());
+		
+		Lancamento fevereiro = criarEPersistirUmLancamento(usuario, 2020, 2);
+		Lancamento janeiro = criarEPersistirUmLancamento(usuario, 2020, 1);
+		
+		try (Stream<Lancamento> lancamentos = repository.exportarPorUsuario(usuario.getId())) {
+			assertThat(lancamentos).containsExactly(janeiro, fevereiro);
+		}
+	}
+
+	@Test
+	public void devePesquisarDespesasDoPeriodoOrdenadasPorValor() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.criarUsuario());
+		
+		Lancamento novembro = criarEPersistirUmLancamento(usuario, 2019, 11);
+		Lancamento dezembro = criarEPersistirUmLancamento(usuario, 2019, 12);
+		Lancamento janeiro = criarEPersistirUmLancamento(usuario, 2020, 1);
+		Lancamento fevereiro = criarEPersistirUmLancamento(usuario, 2020, 2);
+		Lancamento outubro = criarEPersistirUmLancamento(usuario, 2019, 10);
+		Lancamento receita = criarEPersistirUmLancamento(usuario, 2019, 12);
+		novembro.setTipo(TipoLancamento.DESPESA);
+		dezembro.setTipo(TipoLancamento.DESPESA);
+		dezembro.setValor(BigDecimal.valueOf(30));
+		janeiro.setTipo(TipoLancamento.DESPESA);
+		janeiro.setValor(BigDecimal.valueOf(20));
+		fevereiro.setTipo(TipoLancamento.DESPESA);
+		outubro.setTipo(TipoLancamento.DESPESA);
+		entityManager.flush();
+		
+		FiltroLancamentoDTO filtro = FiltroLancamentoDTO.builder()
+				.usuario(usuario.getId())
+				.tipo(TipoLancamento.DESPESA)
+				.valorMinimo(BigDecimal.valueOf(15))
+				.de(YearMonth.of(2019, 11))
+				.ate(YearMonth.of(2020, 1))
+				.build();
+		
+		List<LancamentoResumo> lancamentos = repository.pesquisar(LancamentoSpecifications.filtrar(filtro), Sort.by(Sort.Order.desc("valor")), 10);
+		
+		assertThat(lancamentos).extracting(LancamentoResumo::id).containsExactly(dezembro.getId(), janeiro.getId());
+		assertThat(lancamentos).extracting(LancamentoResumo::id).doesNotContain(receita.getId());
+	}
+
+	@Test
+	public void deveAtualizarOStatusApenasDosLancamentosDoUsuario() {
+		Usuario usuario = entityManager.persist(UsuarioRepositoryTest.criarUsuario());
+		Usuario outroUsuario = UsuarioRepositoryTest.criarUsuario();
+		outroUsuario.setEmail("outro@email.com");
+		outroUsuario = entityManager.persist(outroUsuario);
+		
+		Lancamento proprio = criarEPersistirUmLancamento(usuario, 2020, 1);
+		Lancamento alheio = criarEPersistirUmLancamento(outroUsuario, 2020, 1);
+		entityManager.flush();
+		entityManager.clear();
+		
+		int atualizados = repository.atualizarStatus(usuario.getId(), List.of(proprio.getId(), alheio.getId()), StatusLancamento.EFETIVADO);
+		
+		assertThat(atualizados).isEqualTo(1);
+		assertThat(repository.findById(proprio.getId()).get().getStatus()).isEqualTo(StatusLancamento.EFETIVADO);
+		assertThat(repository.findById(alheio.getId()).get().getStatus()).isEqualTo(StatusLancamento.PENDENTE);
+	}
+
+	private Lancamento criarEPersistirUmLancamento(Usuario usuario, Integer ano, Integer mes) {
+		Lancamento lancamento = criarLancamento();
+		lancamento.setUsuario(usuario);
+		lancamento.setAno(ano);
+		lancamento.setMes(mes);
+		return entityManager.persist(lancamento);
+	}
 }
@@ -0,0 +1,105 @@
+package com.mconstantinojr.minhasfinancas.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LimiteRequisicoesInterceptorTest {
+
+	LimiteRequisicoesInterceptor interceptor;
+	
+	HandlerMethod pesquisa;
+	
+	@Before
+	public void setUp() throws Exception {
+		LimitesProperties propriedades = new LimitesProperties();
+		propriedades.setEsperaConcorrencia(Duration.ZERO);
+		propriedades.getLimite(ClasseEndpoint.PESQUISA).setCapacidade(2);
+		propriedades.getLimite(ClasseEndpoint.PESQUISA).setReposicaoPorSegundo(0.5);
+		propriedades.getLimite(ClasseEndpoint.PESQUISA).setConcorrencia(1);
+		interceptor = new LimiteRequisicoesInterceptor(propriedades, new SimpleMeterRegistry());
+		pesquisa = new HandlerMethod(this, LimiteRequisicoesInterceptorTest.class.getDeclaredMethod("pesquisar"));
+	}
+	
+	@Test
+	public void deveConsumirOBaldeEReporComOTempo() {
+		long agora = 0;
+		BaldeTokens balde = new BaldeTokens(3, 10, agora);
+		
+		Assertions.assertThat(balde.consumir(agora)).isZero();
+		Assertions.assertThat(balde.consumir(agora)).isZero();
+		Assertions.assertThat(balde.consumir(agora)).isZero();
+		Assertions.assertThat(balde.consumir(agora)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+		Assertions.assertThat(balde.consumir(agora + TimeUnit.MILLISECONDS.toNanos(100))).isZero();
+	}
+	
+	@Test
+	public void deveResponder429ComRetryAfterQuandoOBaldeEsvazia() throws Exception {
+		Assertions.assertThat(executar("1").getStatus()).isEqualTo(200);
+		Assertions.assertThat(executar("1").getStatus()).isEqualTo(200);
+		
+		MockHttpServletResponse recusada = executar("1");
+		
+		Assertions.assertThat(recusada.getStatus()).isEqualTo(429);
+		Assertions.assertThat(recusada.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		Assertions.assertThat(executar("2").getStatus()).isEqualTo(200);
+	}
+	
+	@Test
+	public void deveResponder503QuandoAClasseEstaSemVagas() throws Exception {
+		MockHttpServletRequest emAndamento = requisicao("1");
+		Assertions.assertThat(interceptor.preHandle(emAndamento, new MockHttpServletResponse(), pesquisa)).isTrue();
+		
+		MockHttpServletResponse recusada = new MockHttpServletResponse();
+		Assertions.assertThat(interceptor.preHandle(requisicao("2"), recusada, pesquisa)).isFalse();
+		Assertions.assertThat(recusada.getStatus()).isEqualTo(503);
+		
+		interceptor.afterCompletion(emAndamento, new MockHttpServletResponse(), pesquisa, null);
+		Assertions.assertThat(executar("2").getStatus()).isEqualTo(200);
+	}
+	
+	@Test
+	public void deveLimitarRequisicoesSemTokenPeloEnderecoDeOrigem() throws Exception {
+		Assertions.assertThat(executar(anonima("1")).getStatus()).isEqualTo(200);
+		Assertions.assertThat(executar(anonima("2")).getStatus()).isEqualTo(200);
+		
+		Assertions.assertThat(executar(anonima("3")).getStatus()).isEqualTo(429);
+	}
+	
+	private MockHttpServletResponse executar(String usuario) throws Exception {
+		return executar(requisicao(usuario));
+	}
+	
+	private MockHttpServletResponse executar(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		if (interceptor.preHandle(request, response, pesquisa)) {
+			interceptor.afterCompletion(request, response, pesquisa, null);
+		}
+		return response;
+	}
+	
+	private static MockHttpServletRequest requisicao(String usuario) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lancamentos");
+		request.setAttribute(TokenFilter.ATRIBUTO_USUARIO, Long.valueOf(usuario));
+		return request;
+	}
+	
+	private static MockHttpServletRequest anonima(String usuario) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lancamentos");
+		request.setParameter("usuario", usuario);
+		return request;
+	}
+	
+	@LimiteRequisicoes(ClasseEndpoint.PESQUISA)
+	void pesquisar() {
+	}
+}
@@ -0,0 +1,152 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mconstantinojr.minhasfinancas.api.dto.FiltroLancamentoDTO;
+import com.mconstantinojr.minhasfinancas.config.ArquivamentoProperties;
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.FormatoExportacao;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+import com.mconstantinojr.minhasfinancas.model.projection.TotalMensal;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoArquivadoRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepositoryTest;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepositoryTest;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+@Transactional
+public class ArquivamentoServiceTest {
+
+	@Autowired
+	ArquivamentoService service;
+	
+	@Autowired
+	LancamentoService lancamentoService;
+	
+	@Autowired
+	SaldoService saldoService;
+	
+	@Autowired
+	LancamentoArquivadoRepository arquivoRepository;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Autowired
+	ArquivamentoProperties propriedades;
+	
+	Usuario usuario;
+	
+	int anoEncerrado;
+	
+	int anoAberto;
+	
+	@Before
+	public void setUp() {
+		usuario = usuarioRepository.save(UsuarioRepositoryTest.criarUsuario());
+		anoAberto = propriedades.primeiroAnoAberto();
+		anoEncerrado = anoAberto - 1;
+	}
+	
+	@Test
+	public void deveArquivarOsAnosEncerradosMantendoOSaldo() {
+		//cenario
+		lancamentoService.salvar(criarLancamento(anoEncerrado, TipoLancamento.RECEITA, 100));
+		lancamentoService.salvar(criarLancamento(anoEncerrado, TipoLancamento.DESPESA, 30));
+		lancamentoService.salvar(criarLancamento(anoAberto, TipoLancamento.RECEITA, 50));
+		long versao = saldoService.obterVersao(usuario.getId());
+		
+		//execucao
+		arquivar();
+		
+		//verificacao
+		Assertions.assertThat(arquivoRepository.buscarResumos(usuario.getId(), null, null, anoEncerrado)).hasSize(2);
+		Assertions.assertThat(lancamentoService.buscarResumos(filtro(null))).extracting(LancamentoResumo::ano)
+			.containsExactly(anoAberto);
+		Assertions.assertThat(lancamentoService.buscarResumos(filtro(anoEncerrado))).hasSize(2);
+		Assertions.assertThat(saldoService.obterVersao(usuario.getId())).isGreaterThan(versao);
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("120");
+		
+		saldoService.recalcular(usuario.getId());
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("120");
+		Assertions.assertThat(saldoService.obterTotaisMensais(usuario.getId(), anoEncerrado)).containsExactlyInAnyOrder(
+				new TotalMensal(1, TipoLancamento.RECEITA, StatusLancamento.PENDENTE, new BigDecimal("100.00")),
+				new TotalMensal(1, TipoLancamento.DESPESA, StatusLancamento.PENDENTE, new BigDecimal("30.00")));
+	}
+	
+	@Test
+	public void deveCombinarArquivoETabelaPrincipalNosAnosEncerrados() {
+		//cenario
+		lancamentoService.salvar(criarLancamento(anoEncerrado, TipoLancamento.RECEITA, 100));
+		arquivar();
+		
+		//execucao
+		Lancamento tardio = lancamentoService.salvar(criarLancamento(anoEncerrado, TipoLancamento.DESPESA, 20));
+		saldoService.recalcularTodos();
+		
+		//verificacao
+		Assertions.assertThat(lancamentoService.buscarResumos(filtro(anoEncerrado))).extracting(LancamentoResumo::id)
+			.hasSize(2).endsWith(tardio.getId());
+		Assertions.assertThat(lancamentoService.buscar(filtro(anoEncerrado), null, 1).getItens()).hasSize(1);
+		Assertions.assertThat(lancamentoService.pesquisar(FiltroLancamentoDTO.builder().usuario(usuario.getId())
+				.de(YearMonth.of(anoEncerrado, 1)).ordenacao(List.of("-valor")).build(), 10))
+			.extracting(LancamentoResumo::valor).containsExactly(new BigDecimal("100.00"), new BigDecimal("20.00"));
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("80");
+		Assertions.assertThat(saldoService.obterTotaisMensais(usuario.getId(), anoEncerrado)).hasSize(2);
+	}
+	
+	@Test
+	public void deveExportarOsLancamentosArquivadosEAtuais() throws Exception {
+		//cenario
+		lancamentoService.salvar(criarLancamento(anoEncerrado, TipoLancamento.RECEITA, 100));
+		arquivar();
+		lancamentoService.salvar(criarLancamento(anoAberto, TipoLancamento.DESPESA, 20));
+		
+		//execucao
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		lancamentoService.exportar(usuario.getId(), FormatoExportacao.NDJSON, saida);
+		
+		//verificacao
+		Assertions.assertThat(saida.toString(StandardCharsets.UTF_8).lines())
+			.hasSize(2)
+			.allMatch(linha -> linha.contains("\"usuario\":" + usuario.getId()));
+	}
+	
+	private void arquivar() {
+		while (service.arquivarLote(anoAberto, 1000) > 0) {
+		}
+	}
+	
+	private Lancamento filtro(Integer ano) {
+		return Lancamento.builder().usuario(usuario).ano(ano).build();
+	}
+	
+	private Lancamento criarLancamento(int ano, TipoLancamento tipo, int valor) {
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setUsuario(usuario);
+		lancamento.setAno(ano);
+		lancamento.setMes(1);
+		lancamento.setTipo(tipo);
+		lancamento.setValor(BigDecimal.valueOf(valor));
+		return lancamento;
+	}
+}
@@ -0,0 +1,174 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.projection.TotalMensal;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepositoryTest;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepositoryTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+public class LancamentoEscritaTest {
+
+	@Autowired
+	LancamentoService service;
+
+	@Autowired
+	UsuarioService usuarioService;
+
+	@Autowired
+	SaldoService saldoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	TransactionTemplate transactionTemplate;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	Statistics estatisticas;
+
+	Usuario usuario;
+
+	@Before
+	public void setUp() {
+		estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		usuario = UsuarioRepositoryTest.criarUsuario();
+		usuario.setEmail(UUID.randomUUID() + "@email.com");
+		usuario = usuarioRepository.save(usuario);
+		salvarComReferencia(LancamentoRepositoryTest.criarLancamento());
+		estatisticas.clear();
+	}
+
+	@After
+	public void tearDown() {
+		jdbcTemplate.update("delete from financas.lancamento where id_usuario = ?", usuario.getId());
+		jdbcTemplate.update("delete from financas.saldo_usuario where id_usuario = ?", usuario.getId());
+		jdbcTemplate.update("delete from financas.resumo_mensal where id_usuario = ?", usuario.getId());
+		jdbcTemplate.update("delete from financas.usuario where id = ?", usuario.getId());
+	}
+
+	@Test
+	public void deveInserirOLancamentoSemCarregarOUsuario() {
+		long blocoDeIds = blocoDeIds();
+		Lancamento lancamento = salvarComReferencia(LancamentoRepositoryTest.criarLancamento());
+
+		Assertions.assertThat(lancamento.getId()).isNotNull();
+		Assertions.assertThat(estatisticas.getEntityStatistics(Lancamento.class.getName()).getInsertCount()).isEqualTo(1);
+		Assertions.assertThat(estatisticas.getEntityInsertCount()).isEqualTo(1);
+		Assertions.assertThat(estatisticas.getEntityUpdateCount()).isZero();
+		Assertions.assertThat(estatisticas.getEntityStatistics(Usuario.class.getName()).getLoadCount()).isZero();
+		// insert do lançamento, update do saldo e update do resumo; mais select e update
+		// em gerador_id quando o bloco de ids se esgota
+		int reservaDeIds = blocoDeIds() == blocoDeIds ? 0 : 2;
+		Assertions.assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(3 + reservaDeIds);
+	}
+
+	@Test
+	public void deveAtualizarOLancamentoSemCarregarOUsuario() {
+		Lancamento existente = salvarComReferencia(LancamentoRepositoryTest.criarLancamento());
+		estatisticas.clear();
+
+		Lancamento alterado = LancamentoRepositoryTest.criarLancamento();
+		alterado.setId(existente.getId());
+		alterado.setValor(BigDecimal.valueOf(25));
+		salvarComReferencia(alterado);
+
+		Assertions.assertThat(estatisticas.getEntityStatistics(Lancamento.class.getName()).getUpdateCount()).isEqualTo(1);
+		Assertions.assertThat(estatisticas.getEntityInsertCount()).isZero();
+		Assertions.assertThat(estatisticas.getEntityStatistics(Usuario.class.getName()).getLoadCount()).isZero();
+		Assertions.assertThat(estatisticas.getEntityStatistics(Usuario.class.getName()).getUpdateCount()).isZero();
+		// select dos valores antigos, update do saldo e do resumo para estornar e para
+		// somar, select do merge e update do lançamento
+		Assertions.assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(7);
+	}
+
+	@Test
+	public void deveSubstituirOValorNoSaldoAoSalvarUmLancamentoExistente() {
+		Lancamento existente = salvarComReferencia(LancamentoRepositoryTest.criarLancamento());
+
+		Lancamento alterado = LancamentoRepositoryTest.criarLancamento();
+		alterado.setId(existente.getId());
+		alterado.setValor(BigDecimal.valueOf(25));
+		salvarComReferencia(alterado);
+
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("35");
+	}
+
+	@Test
+	public void deveSomarEscritasConcorrentesQueCriamSaldoEResumo() throws Exception {
+		jdbcTemplate.update("delete from financas.saldo_usuario where id_usuario = ?", usuario.getId());
+		CountDownLatch registrada = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			Future<?> primeira = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+				salvarComReferencia(lancamentoDoMes(3));
+				registrada.countDown();
+				try {
+					Thread.sleep(300);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+			registrada.await(5, TimeUnit.SECONDS);
+
+			salvarComReferencia(lancamentoDoMes(3));
+			primeira.get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("30");
+		Assertions.assertThat(saldoService.obterTotaisMensais(usuario.getId(), 2019)).filteredOn(total -> total.mes() == 3)
+			.singleElement().extracting(TotalMensal::total).isEqualTo(new BigDecimal("20.00"));
+	}
+
+	private static Lancamento lancamentoDoMes(int mes) {
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setMes(mes);
+		return lancamento;
+	}
+
+	private long blocoDeIds() {
+		return jdbcTemplate.queryForObject("select valor from financas.gerador_id where nome = 'lancamento'", Long.class);
+	}
+
+	private Lancamento salvarComReferencia(Lancamento lancamento) {
+		return transactionTemplate.execute(status -> {
+			lancamento.setUsuario(usuarioService.obterReferencia(usuario.getId()));
+			return service.salvar(lancamento);
+		});
+	}
+}
@@ -1,10 +1,13 @@
 package com.mconstantinojr.minhasfinancas.service;
 
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
@@ -15,13 +18,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.mconstantinojr.minhasfinancas.api.dto.FiltroLancamentoDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.PaginaDTO;
+import com.mconstantinojr.minhasfinancas.api.dto.ResultadoStatusDTO;
+import com.mconstantinojr.minhasfinancas.exception.LoteInvalidoException;
 import com.mconstantinojr.minhasfinancas.exception.RegraDeNegocioException;
 import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
 import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.FormatoExportacao;
+import com.mconstantinojr.minhasfinancas.model.enums.ResultadoAtualizacaoStatus;
 import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+import com.mconstantinojr.minhasfinancas.model.projection.SituacaoLancamento;
 import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepository;
 import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepositoryTest;
 import com.mconstantinojr.minhasfinancas.service.impl.LancamentoServiceImpl;
@@ -37,6 +49,9 @@ public class LancamentoSerivceTest {
 	@MockBean
 	LancamentoRepository repository;
 	
+	@MockBean
+	SaldoService saldoService;
+	
 	@Test
 	public void deveSalvarUmLancamento() {
 		//cenario
@@ -54,6 +69,7 @@ public class LancamentoSerivceTest {
 		//verificacao
 		Assertions.assertThat(lancamento.getId()).isEqualTo(lancamentoSalvo.getId());
 		Assertions.assertThat(lancamento.getStatus()).isEqualTo(StatusLancamento.PENDENTE);
+		Mockito.verify(saldoService).registrar(lancamentoASalvar);
 	}
 	
 	@Test
@@ -67,6 +83,23 @@ public class LancamentoSerivceTest {
 		Mockito.verify(repository, Mockito.never()).save(lancamentoASalvar);
 	}
 	
+	@Test
+	public void naoDeveSalvarUmLoteQuandoHouverLancamentosInvalidos() {
+		//cenario
+		Lancamento valido = LancamentoRepositoryTest.criarLancamento();
+		valido.setUsuario(Usuario.builder().id(1L).build());
+		Lancamento invalido = LancamentoRepositoryTest.criarLancamento();
+		invalido.setUsuario(Usuario.builder().id(1L).build());
+		invalido.setMes(13);
+		
+		//execucao
+		LoteInvalidoException erro = Assertions.catchThrowableOfType(() -> service.salvarEmLote(Arrays.asList(valido, invalido)), LoteInvalidoException.class);
+		
+		//verificacao
+		Assertions.assertThat(erro.getErros()).containsOnlyKeys(1).containsEntry(1, "informe um Mês válido.");
+		Mockito.verify(repository, Mockito.never()).saveAll(Mockito.anyList());
+	}
+	
 	@Test
 	public void deveAtualizarUmLancamento() {
 		//cenario
@@ -138,6 +171,99 @@ public class LancamentoSerivceTest {
 		Assertions.assertThat(resultado).isNotEmpty().hasSize(1).contains(lancamento);
 	}
 	
+	@Test
+	public void deveRetornarCursorQuandoHouverProximaPagina() {
+		//cenario
+		Lancamento filtro = LancamentoRepositoryTest.criarLancamento();
+		filtro.setUsuario(Usuario.builder().id(1L).build());
+		
+		LancamentoResumo primeiro = criarResumo(1L);
+		LancamentoResumo segundo = criarResumo(2L);
+		
+		Mockito.when(repository.buscarPagina(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.any(), 
+				Mockito.eq(0), Mockito.eq(0), Mockito.eq(0L), Mockito.eq(Limit.of(2))))
+			.thenReturn(Arrays.asList(primeiro, segundo));
+		Mockito.when(repository.buscarPagina(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.any(), 
+				Mockito.eq(2019), Mockito.eq(1), Mockito.eq(1L), Mockito.eq(Limit.of(2))))
+			.thenReturn(Arrays.asList(segundo));
+		
+		//execucao
+		PaginaDTO<LancamentoResumo> pagina = service.buscar(filtro, null, 1);
+		PaginaDTO<LancamentoResumo> proximaPagina = service.buscar(filtro, pagina.getProximo(), 1);
+		
+		//verificacao
+		Assertions.assertThat(pagina.getItens()).containsExactly(primeiro);
+		Assertions.assertThat(pagina.getProximo()).isNotNull();
+		Assertions.assertThat(proximaPagina.getItens()).containsExactly(segundo);
+		Assertions.assertThat(proximaPagina.getProximo()).isNull();
+	}
+	
+	private static LancamentoResumo criarResumo(Long id) {
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		return new LancamentoResumo(id, lancamento.getDescricao(), lancamento.getMes(), lancamento.getAno(), lancamento.getValor(),
+				lancamento.getTipo(), lancamento.getStatus(), lancamento.getDataCadastro(), 1L);
+	}
+	
+	@Test
+	public void deveLancarErroAoBuscarComCursorInvalido() {
+		Lancamento filtro = LancamentoRepositoryTest.criarLancamento();
+		filtro.setUsuario(Usuario.builder().id(1L).build());
+		
+		Throwable erro = Assertions.catchThrowable(() -> service.buscar(filtro, "cursor-invalido", 10));
+		Assertions.assertThat(erro).isInstanceOf(RegraDeNegocioException.class).hasMessage("Cursor de paginação inválido.");
+	}
+	
+	@Test
+	public void deveLancarErroAoPesquisarComOrdenacaoInvalida() {
+		FiltroLancamentoDTO filtro = FiltroLancamentoDTO.builder().usuario(1L).ordenacao(Arrays.asList("-valor", "senha")).build();
+		
+		Throwable erro = Assertions.catchThrowable(() -> service.pesquisar(filtro, 10));
+		Assertions.assertThat(erro).isInstanceOf(RegraDeNegocioException.class).hasMessage("Campo de ordenação inválido: senha.");
+		Mockito.verifyNoInteractions(repository);
+	}
+	
+	@Test
+	public void deveAtualizarOStatusEmLoteInformandoOResultadoDeCadaId() {
+		//cenario
+		Mockito.when(repository.obterSituacoes(1L, Arrays.asList(1L, 2L, 3L))).thenReturn(Arrays.asList(
+				new SituacaoLancamento(1L, StatusLancamento.PENDENTE), new SituacaoLancamento(2L, StatusLancamento.EFETIVADO)));
+		Mockito.when(repository.atualizarStatus(1L, Arrays.asList(1L), StatusLancamento.EFETIVADO)).thenReturn(1);
+		
+		//execucao
+		ResultadoStatusDTO resultado = service.atualizarStatus(1L, Arrays.asList(1L, 2L, 3L), StatusLancamento.EFETIVADO);
+		
+		//verificacao
+		Assertions.assertThat(resultado.getAtualizados()).isEqualTo(1);
+		Assertions.assertThat(resultado.getResultados()).containsExactly(
+				Assertions.entry(1L, ResultadoAtualizacaoStatus.ATUALIZADO),
+				Assertions.entry(2L, ResultadoAtualizacaoStatus.INALTERADO),
+				Assertions.entry(3L, ResultadoAtualizacaoStatus.NAO_ENCONTRADO));
+		Mockito.verify(repository, Mockito.never()).findById(Mockito.anyLong());
+	}
+	
+	@Test
+	public void deveExportarOsLancamentosDoUsuario() throws Exception {
+		//cenario
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setId(1L);
+		lancamento.setDescricao("aluguel; janeiro");
+		lancamento.setUsuario(Usuario.builder().id(1L).build());
+		
+		Mockito.when(repository.exportarPorUsuario(1L)).thenAnswer(invocacao -> Stream.of(lancamento));
+		
+		//execucao
+		ByteArrayOutputStream csv = new ByteArrayOutputStream();
+		service.exportar(1L, FormatoExportacao.CSV, csv);
+		ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+		service.exportar(1L, FormatoExportacao.NDJSON, ndjson);
+		
+		//verificacao
+		Assertions.assertThat(csv.toString(StandardCharsets.UTF_8)).hasLineCount(2)
+			.contains("1;\"aluguel; janeiro\";1;2019;10;RECEITA;PENDENTE;");
+		Assertions.assertThat(ndjson.toString(StandardCharsets.UTF_8)).hasLineCount(1)
+			.startsWith("{\"id\":1,\"descricao\":\"aluguel; janeiro\"").endsWith("}\n");
+	}
+	
 	@Test
 	public void deveAtualizerOsStatusDeUmLancamento() {
 		//cenarii
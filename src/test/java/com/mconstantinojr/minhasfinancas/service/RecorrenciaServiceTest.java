@@ -0,0 +1,137 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mconstantinojr.minhasfinancas.config.RecorrenciaProperties;
+import com.mconstantinojr.minhasfinancas.exception.RegraDeNegocioException;
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Recorrencia;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.LancamentoResumo;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepositoryTest;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+@Transactional
+public class RecorrenciaServiceTest {
+
+	@Autowired
+	RecorrenciaService service;
+	
+	@Autowired
+	LancamentoService lancamentoService;
+	
+	@Autowired
+	SaldoService saldoService;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Autowired
+	RecorrenciaProperties propriedades;
+	
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	
+	Usuario usuario;
+	
+	YearMonth horizonte;
+	
+	@Before
+	public void setUp() {
+		usuario = usuarioRepository.save(UsuarioRepositoryTest.criarUsuario());
+		horizonte = propriedades.horizonte();
+	}
+	
+	@Test
+	public void deveGerarAsParcelasUmaUnicaVezPorCompetencia() {
+		//cenario
+		Recorrencia recorrencia = service.salvar(criarRecorrencia(horizonte.minusMonths(2), 5));
+		
+		//execucao
+		int repetidos = service.gerarLote(horizonte, 100);
+		int seguintes = service.gerarLote(horizonte.plusMonths(12), 100);
+		int aposEncerrar = service.gerarLote(horizonte.plusMonths(12), 100);
+		
+		//verificacao
+		Assertions.assertThat(repetidos).isZero();
+		Assertions.assertThat(seguintes).isEqualTo(2);
+		Assertions.assertThat(aposEncerrar).isZero();
+		Assertions.assertThat(lancamentos()).extracting(LancamentoResumo::descricao)
+			.containsExactly("aluguel (1/5)", "aluguel (2/5)", "aluguel (3/5)", "aluguel (4/5)", "aluguel (5/5)");
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("-500");
+		Assertions.assertThat(recorrencia.getId()).isNotNull();
+	}
+	
+	@Test
+	public void deveGerarRecorrenciaSemFimAteOHorizonte() {
+		//cenario
+		service.salvar(criarRecorrencia(horizonte.minusMonths(1), null));
+		Assertions.assertThat(lancamentos()).hasSize(2);
+		
+		//execucao
+		service.gerarLote(horizonte.plusMonths(3), 100);
+		
+		//verificacao
+		Assertions.assertThat(lancamentos()).extracting(LancamentoResumo::descricao).hasSize(5).containsOnly("aluguel");
+	}
+	
+	@Test
+	public void naoDeveDuplicarParcelasJaGeradas() {
+		//cenario
+		Recorrencia recorrencia = service.salvar(criarRecorrencia(horizonte, 3));
+		jdbcTemplate.update("update financas.recorrencia set proxima_parcela = 1 where id = ?", recorrencia.getId());
+		
+		//execucao
+		Throwable erro = Assertions.catchThrowable(() -> service.gerarLote(horizonte, 100));
+		
+		//verificacao
+		Assertions.assertThat(erro).isInstanceOf(ConstraintViolationException.class);
+	}
+	
+	@Test
+	public void deveValidarARecorrencia() {
+		Recorrencia recorrencia = criarRecorrencia(horizonte, 0);
+		
+		Throwable erro = Assertions.catchThrowable(() -> service.salvar(recorrencia));
+		Assertions.assertThat(erro).isInstanceOf(RegraDeNegocioException.class).hasMessage("informe um número de Parcelas válido.");
+		
+		recorrencia.setParcelas(null);
+		recorrencia.setMesInicio(13);
+		erro = Assertions.catchThrowable(() -> service.salvar(recorrencia));
+		Assertions.assertThat(erro).isInstanceOf(RegraDeNegocioException.class).hasMessage("informe um Mês válido.");
+	}
+	
+	private List<LancamentoResumo> lancamentos() {
+		return lancamentoService.buscarResumos(Lancamento.builder().usuario(usuario).build());
+	}
+	
+	private Recorrencia criarRecorrencia(YearMonth inicio, Integer parcelas) {
+		return Recorrencia.builder()
+				.descricao("aluguel")
+				.valor(BigDecimal.valueOf(100))
+				.tipo(TipoLancamento.DESPESA)
+				.usuario(usuario)
+				.anoInicio(inicio.getYear())
+				.mesInicio(inicio.getMonthValue())
+				.parcelas(parcelas)
+				.build();
+	}
+}
@@ -0,0 +1,149 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Lancamento;
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.enums.StatusLancamento;
+import com.mconstantinojr.minhasfinancas.model.enums.TipoLancamento;
+import com.mconstantinojr.minhasfinancas.model.projection.TotalMensal;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.LancamentoRepositoryTest;
+import com.mconstantinojr.minhasfinancas.model.repository.SaldoUsuarioRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepositoryTest;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+@Transactional
+public class SaldoServiceTest {
+
+	@Autowired
+	SaldoService service;
+	
+	@Autowired
+	LancamentoService lancamentoService;
+	
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+	
+	@Autowired
+	SaldoUsuarioRepository repository;
+	
+	@Autowired
+	UsuarioRepository usuarioRepository;
+	
+	@Test
+	public void deveManterOSaldoAtualizadoNasEscritasDeLancamento() {
+		//cenario
+		Usuario usuario = usuarioRepository.save(UsuarioRepositoryTest.criarUsuario());
+		
+		//execucao
+		Lancamento receita = lancamentoService.salvar(criarLancamento(usuario, TipoLancamento.RECEITA, 100));
+		Lancamento despesa = lancamentoService.salvar(criarLancamento(usuario, TipoLancamento.DESPESA, 30));
+		
+		Lancamento despesaAlterada = criarLancamento(usuario, TipoLancamento.DESPESA, 50);
+		despesaAlterada.setId(despesa.getId());
+		lancamentoService.atualizar(despesaAlterada);
+		
+		lancamentoService.deletar(receita);
+		
+		//verificacao
+		Assertions.assertThat(repository.findById(usuario.getId())).isPresent();
+		Assertions.assertThat(service.obterSaldo(usuario.getId())).isEqualByComparingTo("-50");
+	}
+	
+	@Test
+	public void deveIncrementarAVersaoACadaEscritaDoUsuario() {
+		//cenario
+		Usuario usuario = usuarioRepository.save(UsuarioRepositoryTest.criarUsuario());
+		Assertions.assertThat(service.obterVersao(usuario.getId())).isZero();
+		
+		//execucao
+		Lancamento receita = lancamentoService.salvar(criarLancamento(usuario, TipoLancamento.RECEITA, 100));
+		long versaoAposSalvar = service.obterVersao(usuario.getId());
+		lancamentoService.atualizarStatus(usuario.getId(), List.of(receita.getId()), StatusLancamento.EFETIVADO);
+		long versaoAposStatus = service.obterVersao(usuario.getId());
+		service.recalcularTodos();
+		
+		//verificacao
+		Assertions.assertThat(versaoAposSalvar).isPositive();
+		Assertions.assertThat(versaoAposStatus).isGreaterThan(versaoAposSalvar);
+		Assertions.assertThat(service.obterVersao(usuario.getId())).isGreaterThan(versaoAposStatus);
+	}
+	
+	@Test
+	public void deveRecalcularOSaldoAPartirDosLancamentos() {
+		//cenario
+		Usuario usuario = usuarioRepository.save(UsuarioRepositoryTest.criarUsuario());
+		lancamentoRepository.save(criarLancamento(usuario, TipoLancamento.RECEITA, 80));
+		lancamentoRepository.save(criarLancamento(usuario, TipoLancamento.DESPESA, 20));
+		
+		//execucao
+		service.recalcularTodos();
+		
+		//verificacao
+		Assertions.assertThat(repository.findById(usuario.getId()).get().getSaldo()).isEqualByComparingTo("60");
+	}
+	
+	@Test
+	public void deveAtualizarOSaldoAoSalvarUmLote() {
+		//cenario
+		Usuario usuario = usuarioRepository.save(UsuarioRepositoryTest.criarUsuario());
+		List<Lancamento> lote = new ArrayList<>();
+		for (int i = 0; i < 120; i++) {
+			lote.add(criarLancamento(usuario, i % 2 == 0 ? TipoLancamento.RECEITA : TipoLancamento.DESPESA, i + 1));
+		}
+		
+		//execucao
+		int salvos = lancamentoService.salvarEmLote(lote);
+		
+		//verificacao
+		Assertions.assertThat(salvos).isEqualTo(120);
+		Assertions.assertThat(lancamentoRepository.calcularSaldo(usuario.getId()).get().getSaldo()).isEqualByComparingTo("-60");
+		Assertions.assertThat(service.obterSaldo(usuario.getId())).isEqualByComparingTo("-60");
+	}
+	
+	@Test
+	public void deveManterOResumoMensalNasEscritasDeLancamento() {
+		//cenario
+		Usuario usuario = usuarioRepository.save(UsuarioRepositoryTest.criarUsuario());
+		Lancamento receita = lancamentoService.salvar(criarLancamento(usuario, TipoLancamento.RECEITA, 100));
+		Lancamento despesa = lancamentoService.salvar(criarLancamento(usuario, TipoLancamento.DESPESA, 30));
+		lancamentoService.salvarEmLote(List.of(criarLancamento(usuario, TipoLancamento.DESPESA, 20), 
+				criarLancamento(usuario, TipoLancamento.DESPESA, 5)));
+		
+		//execucao
+		lancamentoService.atualizarStatus(usuario.getId(), List.of(receita.getId(), despesa.getId()), StatusLancamento.EFETIVADO);
+		lancamentoService.deletar(despesa);
+		List<TotalMensal> incrementais = service.obterTotaisMensais(usuario.getId(), receita.getAno());
+		service.recalcularTodos();
+		
+		//verificacao
+		Assertions.assertThat(incrementais).containsExactlyInAnyOrder(
+				new TotalMensal(receita.getMes(), TipoLancamento.RECEITA, StatusLancamento.EFETIVADO, new BigDecimal("100.00")),
+				new TotalMensal(receita.getMes(), TipoLancamento.DESPESA, StatusLancamento.PENDENTE, new BigDecimal("25.00")));
+		Assertions.assertThat(service.obterTotaisMensais(usuario.getId(), receita.getAno()))
+			.containsExactlyInAnyOrderElementsOf(incrementais);
+	}
+	
+	private Lancamento criarLancamento(Usuario usuario, TipoLancamento tipo, int valor) {
+		Lancamento lancamento = LancamentoRepositoryTest.criarLancamento();
+		lancamento.setUsuario(usuario);
+		lancamento.setTipo(tipo);
+		lancamento.setValor(BigDecimal.valueOf(valor));
+		return lancamento;
+	}
+}
@@ -0,0 +1,41 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.service.impl.TokenServiceImpl;
+
+public class TokenServiceTest {
+
+	TokenService service = new TokenServiceImpl("segredo-de-teste", Duration.ofHours(1));
+	
+	@Test
+	public void deveObterOUsuarioDoTokenGerado() {
+		String token = service.gerarToken(Usuario.builder().id(42L).build());
+		
+		Assertions.assertThat(service.obterIdUsuario(token)).contains(42L);
+	}
+	
+	@Test
+	public void deveRejeitarTokenAdulterado() {
+		String token = service.gerarToken(Usuario.builder().id(42L).build());
+		String outroToken = service.gerarToken(Usuario.builder().id(7L).build());
+		String adulterado = outroToken.substring(0, outroToken.indexOf('.')) + token.substring(token.indexOf('.'));
+		
+		Assertions.assertThat(service.obterIdUsuario(adulterado)).isEmpty();
+		Assertions.assertThat(service.obterIdUsuario("token-invalido")).isEmpty();
+		Assertions.assertThat(new TokenServiceImpl("outro-segredo", Duration.ofHours(1)).obterIdUsuario(token)).isEmpty();
+	}
+	
+	@Test
+	public void deveRejeitarTokenExpirado() {
+		TokenService expirado = new TokenServiceImpl("segredo-de-teste", Duration.ofSeconds(-1));
+		
+		String token = expirado.gerarToken(Usuario.builder().id(42L).build());
+		
+		Assertions.assertThat(expirado.obterIdUsuario(token)).isEmpty();
+	}
+}
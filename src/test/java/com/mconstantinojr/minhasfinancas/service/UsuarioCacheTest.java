@@ -0,0 +1,73 @@
+package com.mconstantinojr.minhasfinancas.service;
+
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.mconstantinojr.minhasfinancas.model.entity.Usuario;
+import com.mconstantinojr.minhasfinancas.model.repository.UsuarioRepository;
+
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+@RunWith(SpringRunner.class)
+@ActiveProfiles("test")
+public class UsuarioCacheTest {
+
+	@Autowired
+	UsuarioService service;
+
+	@Autowired
+	CacheManager cacheManager;
+
+	@MockBean
+	UsuarioRepository repository;
+
+	@Before
+	public void setUp() {
+		cacheManager.getCacheNames().forEach(nome -> cacheManager.getCache(nome).clear());
+	}
+
+	@Test
+	public void deveBuscarUsuarioPorIdApenasUmaVez() {
+		Usuario usuario = Usuario.builder().id(1L).nome("usuario").email("usuario@email.com").build();
+		Mockito.when(repository.findById(1L)).thenReturn(Optional.of(usuario));
+
+		service.obterPorId(1L);
+		Optional<Usuario> resultado = service.obterPorId(1L);
+
+		Assertions.assertThat(resultado).contains(usuario);
+		Mockito.verify(repository, Mockito.times(1)).findById(1L);
+	}
+
+	@Test
+	public void naoDeveGuardarUsuarioInexistente() {
+		Mockito.when(repository.findById(2L)).thenReturn(Optional.empty());
+
+		service.obterPorId(2L);
+		service.obterPorId(2L);
+
+		Mockito.verify(repository, Mockito.times(2)).findById(2L);
+	}
+
+	@Test
+	public void deveInvalidarCacheAoSalvarUsuario() {
+		Usuario usuario = Usuario.builder().id(1L).nome("usuario").email("usuario@email.com").build();
+		Mockito.when(repository.findById(1L)).thenReturn(Optional.of(usuario));
+		Mockito.when(repository.save(Mockito.any(Usuario.class))).thenReturn(usuario);
+
+		service.obterPorId(1L);
+		service.salvarUsuario(Usuario.builder().nome("usuario").email("usuario@email.com").build());
+		service.obterPorId(1L);
+
+		Mockito.verify(repository, Mockito.times(2)).findById(1L);
+	}
+}